@@ -30,14 +30,20 @@ import io.ballerina.scan.ScannerContext;
 
 public class CustomAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisContext> {
 
+    private final ScannerContext scannerContext;
     private final Reporter reporter;
 
     public CustomAnalysisTask(ScannerContext scannerContext) {
+        this.scannerContext = scannerContext;
         this.reporter = scannerContext.getReporter();
     }
 
     @Override
     public void perform(SyntaxNodeAnalysisContext context) {
+        // Skip the analysis if the rule is excluded from the scan
+        if (!scannerContext.isRuleEnabled(109)) {
+            return;
+        }
 
         Module module = context.currentPackage().module(context.moduleId());
         Document document = module.document(context.documentId());
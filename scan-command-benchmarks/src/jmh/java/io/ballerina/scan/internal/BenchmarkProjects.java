@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.scan.fixtures.SyntheticProjectGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+// Creates temporary Ballerina packages with Scan.toml configurations for the benchmarks
+final class BenchmarkProjects {
+
+    private static final String SCAN_TOML = """
+            [[analyzer]]
+            org = "benchmark"
+            name = "benchmark_analyzer"
+
+            [[analyzer]]
+            org = "benchmark"
+            name = "benchmark_local_analyzer"
+            version = "0.1.0"
+            repository = "local"
+
+            [rule]
+            include = ["B107", "B108", "ballerina/*:*"]
+            exclude = ["severity>=BUG"]
+            """;
+
+    private BenchmarkProjects() {
+    }
+
+    // A single document package where every function violates the inbuilt rules
+    static Path createPackage(int functionCount) throws IOException {
+        return createPackage(new SyntheticProjectGenerator(0, 1, functionCount, 1));
+    }
+
+    static Path createPackage(SyntheticProjectGenerator generator) throws IOException {
+        Path packageRoot = generator.generate();
+        Files.writeString(packageRoot.resolve("Scan.toml"), SCAN_TOML);
+        return packageRoot;
+    }
+
+    static void deletePackage(Path packageRoot) throws IOException {
+        try (Stream<Path> paths = Files.walk(packageRoot)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
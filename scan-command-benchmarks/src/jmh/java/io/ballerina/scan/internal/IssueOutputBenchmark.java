@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.scan.IssueSink;
+import io.ballerina.scan.utilities.ScanUtils;
+import io.ballerina.tools.diagnostics.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Writing the issues of a scan to the JSON results and to the HTML scan report
+@State(Scope.Benchmark)
+public class IssueOutputBenchmark {
+
+    @Param({"100", "10000"})
+    private int issueCount;
+
+    private Path packageRoot;
+    private Path reportDirectory;
+    private Project project;
+    private final IssueStore issues = new IssueStore();
+
+    @Setup
+    public void setup() throws IOException {
+        packageRoot = BenchmarkProjects.createPackage(1);
+        project = BuildProject.load(packageRoot);
+        reportDirectory = Files.createTempDirectory("bal-scan-benchmark-report");
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        Document document = defaultModule.document(defaultModule.documentIds().iterator().next());
+        Location location = document.syntaxTree().rootNode().location();
+
+        InternalReporter reporter = new InternalReporter(issues, InbuiltRules.INBUILT_RULES);
+        for (int i = 0; i < issueCount; i++) {
+            reporter.reportIssue(document, location, i % 2 == 0 ? 107 : 108);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkProjects.deletePackage(packageRoot);
+        BenchmarkProjects.deletePackage(reportDirectory);
+    }
+
+    @Benchmark
+    public void convertIssuesToJson() {
+        IssueSink issueSink = new JsonIssueSink(Writer.nullWriter());
+        issues.forEach(issueSink::accept);
+        issueSink.complete();
+    }
+
+    @Benchmark
+    public void saveToDirectory() {
+        IssueSink issueSink = ScanUtils.saveToDirectory(reportDirectory);
+        issues.forEach(issueSink::accept);
+        issueSink.complete();
+    }
+
+    @Benchmark
+    public void generateScanReport() {
+        IssueSink issueSink = ScanUtils.generateScanReport(project, reportDirectory);
+        issues.forEach(issueSink::accept);
+        issueSink.complete();
+    }
+}
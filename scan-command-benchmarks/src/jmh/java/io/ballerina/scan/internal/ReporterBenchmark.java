@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.scan.Rule;
+import io.ballerina.scan.Severity;
+import io.ballerina.tools.diagnostics.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
+
+// Throughput of reporting issues from the inbuilt rules and from the external analyzers. Each invocation reports a
+// fixed batch of issues to new reporters, so that the measured cost does not depend on how many issues earlier
+// invocations left in the issue lists. The throughput is reported per issue.
+@State(Scope.Benchmark)
+public class ReporterBenchmark {
+
+    private static final int ISSUES_PER_INVOCATION = 1000;
+
+    private Path packageRoot;
+    private Document document;
+    private Location location;
+    private Rule externalRule;
+    private List<Rule> externalRules;
+    private BitSet enabledExternalRules;
+
+    @Setup
+    public void setup() throws IOException {
+        packageRoot = BenchmarkProjects.createPackage(1);
+        Project project = BuildProject.load(packageRoot);
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        document = defaultModule.document(defaultModule.documentIds().iterator().next());
+        location = document.syntaxTree().rootNode().location();
+
+        externalRule = RuleFactory.createRule(101, "Benchmark rule", Severity.CODE_SMELL, "benchmark",
+                "benchmark_analyzer");
+        externalRules = List.of(externalRule);
+        enabledExternalRules = new BitSet();
+        enabledExternalRules.set(externalRule.numericId());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkProjects.deletePackage(packageRoot);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ISSUES_PER_INVOCATION)
+    public IssueStore reportInbuiltIssues() {
+        IssueStore issues = new IssueStore();
+        InternalReporter internalReporter = new InternalReporter(issues, InbuiltRules.INBUILT_RULES);
+        for (int i = 0; i < ISSUES_PER_INVOCATION; i++) {
+            internalReporter.reportIssue(document, location, 107);
+        }
+        return issues;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ISSUES_PER_INVOCATION)
+    public ReporterIml reportExternalIssues() {
+        ReporterIml externalReporter = new ReporterIml(externalRules, enabledExternalRules, IssueThreshold.NONE);
+        for (int i = 0; i < ISSUES_PER_INVOCATION; i++) {
+            externalReporter.reportIssue(document, location, externalRule);
+        }
+        return externalReporter;
+    }
+}
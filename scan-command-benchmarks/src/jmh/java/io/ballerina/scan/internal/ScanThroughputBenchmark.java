@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.scan.Issue;
+import io.ballerina.scan.IssueSink;
+import io.ballerina.scan.fixtures.SyntheticProjectGenerator;
+import io.ballerina.scan.utilities.ScanTomlFile;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// End to end scans of synthetic packages of (modules + 1) * 10 documents, each run is a single shot as a scan of
+// the larger packages takes seconds. The peak heap usage of each scan is reported along with its time, which
+// compares the low memory mode with the regular mode.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ScanThroughputBenchmark {
+
+    private static final int DOCUMENTS_PER_MODULE = 10;
+    private static final int FUNCTIONS_PER_DOCUMENT = 20;
+
+    @Param({"10", "100", "1000"})
+    private int moduleCount;
+
+    @Param({"0.1"})
+    private double issueDensity;
+
+    @Param({"1", "4"})
+    private int threads;
+
+    @Param({"false", "true"})
+    private boolean lowMemory;
+
+    private Path packageRoot;
+    private Project project;
+    private PrintStream outputStream;
+
+    @Setup
+    public void setup() throws IOException {
+        packageRoot = new SyntheticProjectGenerator(moduleCount, DOCUMENTS_PER_MODULE, FUNCTIONS_PER_DOCUMENT,
+                issueDensity).generate();
+        project = BuildProject.load(packageRoot);
+        outputStream = new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkProjects.deletePackage(packageRoot);
+    }
+
+    // Analysis of an already loaded package, the syntax trees are parsed by the first invocation
+    @Benchmark
+    public long analyzeProject(HeapUsage heapUsage) {
+        HeapUsageMonitor.reset();
+        ScanTomlFile scanTomlFile = new ScanTomlFile();
+        RuleFilter ruleFilter = RuleFilter.from(scanTomlFile, Collections.emptyList(), Collections.emptyList());
+        ProjectAnalyzer projectAnalyzer = new ProjectAnalyzer(scanTomlFile, ruleFilter, threads, false, lowMemory);
+        AtomicLong issueCount = new AtomicLong();
+        projectAnalyzer.analyzeProject(project, new IssueSink() {
+            @Override
+            public void accept(Issue issue) {
+                issueCount.incrementAndGet();
+            }
+
+            @Override
+            public void complete() {
+            }
+        });
+        heapUsage.peakHeapMegabytes = HeapUsageMonitor.peakHeapUsageInMegabytes();
+        return issueCount.get();
+    }
+
+    // A complete scan through the command, including loading the package and writing the results
+    @Benchmark
+    public void scanCommand(HeapUsage heapUsage) {
+        ScanCmd scanCmd = new ScanCmd(outputStream, null, packageRoot);
+        if (lowMemory) {
+            new CommandLine(scanCmd).parseArgs("--no-daemon", "--threads=" + threads, "--low-memory");
+        } else {
+            new CommandLine(scanCmd).parseArgs("--no-daemon", "--threads=" + threads);
+        }
+        scanCmd.execute();
+        heapUsage.peakHeapMegabytes = HeapUsageMonitor.peakHeapUsageInMegabytes();
+    }
+
+    // Reported as a secondary result of each scan, the heap usage is reset at the start of a scan
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+
+        public long peakHeapMegabytes;
+    }
+}
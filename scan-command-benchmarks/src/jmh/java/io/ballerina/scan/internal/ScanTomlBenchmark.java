@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.scan.utilities.ScanTomlFile;
+import io.ballerina.scan.utilities.ScanUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+// Parsing the Scan.toml configurations of a package, the file is read again on every invocation
+@State(Scope.Benchmark)
+public class ScanTomlBenchmark {
+
+    private Path packageRoot;
+    private Project project;
+    private PrintStream outputStream;
+
+    @Setup
+    public void setup() throws IOException {
+        packageRoot = BenchmarkProjects.createPackage(1);
+        project = BuildProject.load(packageRoot);
+        outputStream = new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkProjects.deletePackage(packageRoot);
+    }
+
+    @Benchmark
+    public ScanTomlFile loadScanFile() {
+        return ScanUtils.retrieveScanTomlConfigurations(project, outputStream);
+    }
+}
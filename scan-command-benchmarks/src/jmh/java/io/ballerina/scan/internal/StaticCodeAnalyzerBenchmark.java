@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.scan.Issue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+// Traversal of a single document by the inbuilt rules, for documents of an increasing number of functions
+@State(Scope.Benchmark)
+public class StaticCodeAnalyzerBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int functionCount;
+
+    private Path packageRoot;
+    private Document document;
+    private SyntaxTree syntaxTree;
+    private CompilationCache compilationCache;
+    private RuleDispatcher ruleDispatcher;
+    private AnalysisBudget analysisBudget;
+
+    @Setup
+    public void setup() throws IOException {
+        packageRoot = BenchmarkProjects.createPackage(functionCount);
+        Project project = BuildProject.load(packageRoot);
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        document = defaultModule.document(defaultModule.documentIds().iterator().next());
+
+        // Parse the document upfront so that only the traversal is measured
+        syntaxTree = document.syntaxTree();
+        compilationCache = new CompilationCache();
+        ruleDispatcher = new RuleDispatcher(InbuiltRules.INBUILT_RULE_CHECKS);
+        analysisBudget = new AnalysisBudget(0, 0);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkProjects.deletePackage(packageRoot);
+    }
+
+    @Benchmark
+    public List<Issue> analyzeDocument() {
+        IssueStore issues = new IssueStore();
+        InternalScannerContext scannerContext = new InternalScannerContext(issues, InbuiltRules.INBUILT_RULES,
+                compilationCache, ruleDispatcher, analysisBudget, null);
+        new StaticCodeAnalyzer(document, syntaxTree, scannerContext).initialize();
+        return issues;
+    }
+}
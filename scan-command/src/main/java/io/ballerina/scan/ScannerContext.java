@@ -17,7 +17,22 @@
 
 package io.ballerina.scan;
 
+import io.ballerina.projects.Document;
+import io.ballerina.scan.internal.SyntaxNodeIndexIml;
+
 public interface ScannerContext {
 
     Reporter getReporter();
+
+    // Rules disabled through the include and exclude configurations need not be analyzed, contexts without a rule
+    // configuration have every rule enabled
+    default boolean isRuleEnabled(int numericId) {
+        return true;
+    }
+
+    // Analyzers looking for all nodes of a kind can read them from the index instead of traversing the document.
+    // Contexts without an index cache build a new index on each call.
+    default SyntaxNodeIndex getSyntaxNodeIndex(Document document) {
+        return SyntaxNodeIndexIml.of(document);
+    }
 }
@@ -17,6 +17,8 @@
 
 package io.ballerina.scan;
 
+import io.ballerina.scan.internal.IssueStore;
+
 import java.util.List;
 
 public interface StaticCodeAnalysisPlatformPlugin {
@@ -26,4 +28,21 @@ public interface StaticCodeAnalysisPlatformPlugin {
     void init(PlatformPluginContext platformArgs);
 
     void onScan(List<Issue> issues);
+
+    // Platforms can override this to process the issues as they are produced, by default the issues are
+    // collected in a compact issue store and reported through onScan once the scan completes
+    default IssueSink issueSink() {
+        List<Issue> issues = new IssueStore();
+        return new IssueSink() {
+            @Override
+            public void accept(Issue issue) {
+                issues.add(issue);
+            }
+
+            @Override
+            public void complete() {
+                onScan(issues);
+            }
+        };
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Time budgets of the analysis, a budget of zero disables the corresponding limit
+public class AnalysisBudget {
+
+    private final long ruleBudget;
+    private final long documentBudget;
+    private final List<SkippedAnalysis> skippedAnalyses = new ArrayList<>();
+
+    AnalysisBudget(long ruleTimeoutMillis, long documentTimeoutMillis) {
+        this.ruleBudget = TimeUnit.MILLISECONDS.toNanos(ruleTimeoutMillis);
+        this.documentBudget = TimeUnit.MILLISECONDS.toNanos(documentTimeoutMillis);
+    }
+
+    boolean hasRuleBudget() {
+        return ruleBudget > 0;
+    }
+
+    // Budget of each rule for a single document in nanoseconds
+    long ruleBudget() {
+        return ruleBudget;
+    }
+
+    boolean hasDocumentBudget() {
+        return documentBudget > 0;
+    }
+
+    // Budget of all rules for a single document in nanoseconds
+    long documentBudget() {
+        return documentBudget;
+    }
+
+    synchronized void recordSkipped(SkippedAnalysis skippedAnalysis) {
+        skippedAnalyses.add(skippedAnalysis);
+    }
+
+    synchronized List<SkippedAnalysis> skippedAnalyses() {
+        return new ArrayList<>(skippedAnalyses);
+    }
+}
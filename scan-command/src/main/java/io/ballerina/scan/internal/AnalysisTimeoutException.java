@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+// Thrown to the analyzers which are still running after their time budget is exceeded, and to the rule checks
+// requiring the compiler after a compilation was abandoned
+public class AnalysisTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    AnalysisTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ClassLoaderCache {
+
+    // Class loaders are kept warm across daemon scan requests. Every rebuilt analyzer JAR adds a class loader, so
+    // only the most recently used ones are kept. The scans hold the class loaders they use, an evicted class loader
+    // is closed once no scan holds it, releasing its JAR handles and classes.
+    static final int MAX_CLASS_LOADERS = 16;
+    private static final Map<URLClassLoader, Integer> HOLDERS = new IdentityHashMap<>();
+    private static final Map<String, URLClassLoader> CLASS_LOADERS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, URLClassLoader> eldest) {
+            if (size() <= MAX_CLASS_LOADERS) {
+                return false;
+            }
+            if (!HOLDERS.containsKey(eldest.getValue())) {
+                close(eldest.getValue());
+            }
+            return true;
+        }
+    };
+
+    private ClassLoaderCache() {
+    }
+
+    // The acquired class loader has to be released once the scan no longer loads classes or resources from it
+    static synchronized URLClassLoader acquire(List<String> jarPaths) {
+        // A modified JAR file results in a new class loader
+        StringBuilder cacheKey = new StringBuilder();
+        jarPaths.forEach(jarPath -> {
+            cacheKey.append(jarPath).append('@').append(new File(jarPath).lastModified()).append(';');
+        });
+
+        URLClassLoader classLoader = CLASS_LOADERS.get(cacheKey.toString());
+        if (classLoader == null) {
+            List<URL> jarUrls = new ArrayList<>();
+            jarPaths.forEach(jarPath -> {
+                try {
+                    URL jarUrl = Path.of(jarPath).toUri().toURL();
+                    jarUrls.add(jarUrl);
+                } catch (MalformedURLException ex) {
+                    throw new RuntimeException(ex);
+                }
+            });
+            classLoader = new URLClassLoader(jarUrls.toArray(new URL[0]), ClassLoaderCache.class.getClassLoader());
+
+            // Hold the new class loader before it is cached, so that it is not closed if it is evicted right away
+            HOLDERS.merge(classLoader, 1, Integer::sum);
+            CLASS_LOADERS.put(cacheKey.toString(), classLoader);
+            return classLoader;
+        }
+        HOLDERS.merge(classLoader, 1, Integer::sum);
+        return classLoader;
+    }
+
+    static synchronized void release(URLClassLoader classLoader) {
+        Integer holders = HOLDERS.get(classLoader);
+        if (holders == null) {
+            return;
+        }
+        if (holders > 1) {
+            HOLDERS.put(classLoader, holders - 1);
+            return;
+        }
+        HOLDERS.remove(classLoader);
+        if (!CLASS_LOADERS.containsValue(classLoader)) {
+            close(classLoader);
+        }
+    }
+
+    // Reads a resource of the JARs, returns null if none of the JARs contain the resource
+    static String readResource(List<String> jarPaths, String resourceName) {
+        URLClassLoader classLoader = acquire(jarPaths);
+        try (InputStream resourceAsStream = classLoader.getResourceAsStream(resourceName)) {
+            if (resourceAsStream == null) {
+                return null;
+            }
+            StringBuilder stringBuilder = new StringBuilder();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(resourceAsStream,
+                    StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    stringBuilder.append(line);
+                }
+            }
+            return stringBuilder.toString();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        } finally {
+            release(classLoader);
+        }
+    }
+
+    private static void close(URLClassLoader classLoader) {
+        try {
+            classLoader.close();
+        } catch (IOException ex) {
+            // The class loader is no longer used, failing to close it only keeps its JAR files open
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CompilationCache {
+
+    private final Map<ModuleId, SemanticModel> semanticModels = new HashMap<>();
+    private final Map<ModuleId, SymbolLookupCache> symbolLookupCaches = new HashMap<>();
+    private final Object compilerLock;
+    private PackageCompilation packageCompilation = null;
+    private final AtomicInteger compilations = new AtomicInteger();
+    private volatile boolean compilationAbandoned = false;
+
+    CompilationCache() {
+        this(new Object());
+    }
+
+    // Packages sharing a project environment also share the lock, as the compiler is not thread safe
+    CompilationCache(Object compilerLock) {
+        this.compilerLock = compilerLock;
+    }
+
+    // Compilations are performed while holding the compiler lock
+    SemanticModel getSemanticModel(Module module) {
+        checkCompilationAbandoned();
+        synchronized (compilerLock) {
+            SemanticModel semanticModel = semanticModels.get(module.moduleId());
+            if (semanticModel == null) {
+                // Reuse the package compilation when available instead of compiling the module again
+                if (packageCompilation != null) {
+                    semanticModel = packageCompilation.getSemanticModel(module.moduleId());
+                } else {
+                    semanticModel = module.getCompilation().getSemanticModel();
+                    compilations.incrementAndGet();
+                }
+                semanticModels.put(module.moduleId(), semanticModel);
+            }
+            return semanticModel;
+        }
+    }
+
+    // The lookups of a module are shared by all rules and documents until its semantic model is released
+    SymbolLookupCache getSymbolLookupCache(Module module) {
+        SemanticModel semanticModel = getSemanticModel(module);
+        synchronized (compilerLock) {
+            SymbolLookupCache symbolLookupCache = symbolLookupCaches.get(module.moduleId());
+            if (symbolLookupCache == null || symbolLookupCache.semanticModel() != semanticModel) {
+                symbolLookupCache = new SymbolLookupCache(semanticModel);
+                symbolLookupCaches.put(module.moduleId(), symbolLookupCache);
+            }
+            return symbolLookupCache;
+        }
+    }
+
+    PackageCompilation compilePackage(Package currentPackage) {
+        synchronized (compilerLock) {
+            packageCompilation = currentPackage.getCompilation();
+            semanticModels.clear();
+            symbolLookupCaches.clear();
+            compilations.incrementAndGet();
+            return packageCompilation;
+        }
+    }
+
+    // Drops the package compilation, the semantic models of the remaining modules are compiled one module at a time
+    void releasePackageCompilation() {
+        if (compilationAbandoned) {
+            return;
+        }
+        synchronized (compilerLock) {
+            packageCompilation = null;
+        }
+    }
+
+    // Drops the cached semantic model of a module which is no longer analyzed
+    void releaseSemanticModel(ModuleId moduleId) {
+        if (compilationAbandoned) {
+            return;
+        }
+        synchronized (compilerLock) {
+            semanticModels.remove(moduleId);
+            symbolLookupCaches.remove(moduleId);
+        }
+    }
+
+    // The abandoned compilation keeps holding the compiler lock, the semantic models are no longer available
+    void abandonCompilation() {
+        compilationAbandoned = true;
+    }
+
+    boolean isCompilationAbandoned() {
+        return compilationAbandoned;
+    }
+
+    private void checkCompilationAbandoned() {
+        if (compilationAbandoned) {
+            throw new AnalysisTimeoutException("The semantic model is not available as the compiler is held by an "
+                    + "abandoned compilation");
+        }
+    }
+
+    int compilationCount() {
+        return compilations.get();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.scan.Issue;
+import io.ballerina.scan.IssueSink;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CompositeIssueSink implements IssueSink {
+
+    private final String packageName;
+    private final List<IssueSink> issueSinks = new ArrayList<>();
+    private final List<String> completionPhases = new ArrayList<>();
+    private final Map<String, Long> completionDurations = new LinkedHashMap<>();
+    private long issueCount = 0;
+    private int completedSinks = 0;
+
+    CompositeIssueSink(String packageName) {
+        this.packageName = packageName;
+    }
+
+    // The completion of the sink is recorded as a scan phase with the given name
+    void add(IssueSink issueSink, String completionPhase) {
+        issueSinks.add(issueSink);
+        completionPhases.add(completionPhase);
+    }
+
+    @Override
+    public synchronized void accept(Issue issue) {
+        issueCount++;
+        for (IssueSink issueSink : issueSinks) {
+            issueSink.accept(issue);
+        }
+    }
+
+    // A sink failing to complete fails the scan, the sinks which are not completed yet are aborted
+    @Override
+    public synchronized void complete() {
+        for (; completedSinks < issueSinks.size(); completedSinks++) {
+            ScanPhaseEvent event = ScanPhaseEvent.start(completionPhases.get(completedSinks), packageName);
+            try {
+                issueSinks.get(completedSinks).complete();
+            } catch (RuntimeException | Error ex) {
+                abort();
+                throw ex;
+            }
+            event.issueCount = issueCount;
+            completionDurations.put(event.phase, event.finish());
+        }
+    }
+
+    // Aborts the sinks which are not completed, so aborting after a failed completion does not touch the outputs
+    // which are already in place
+    @Override
+    public synchronized void abort() {
+        for (; completedSinks < issueSinks.size(); completedSinks++) {
+            issueSinks.get(completedSinks).abort();
+        }
+    }
+
+    // Durations of completing each sink in nanoseconds
+    synchronized Map<String, Long> completionDurations() {
+        return new LinkedHashMap<>(completionDurations);
+    }
+
+    synchronized long issueCount() {
+        return issueCount;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.scan.Issue;
+import io.ballerina.scan.IssueSink;
+
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+// Prints the issues to the console as a JSON array. The console stream is owned by the caller, the issues are
+// buffered until the sink is flushed, so the caller flushes it before printing to the console directly.
+public class ConsoleIssueSink implements IssueSink {
+
+    private final PrintStream outputStream;
+    private final JsonIssueSink jsonIssueSink;
+
+    public ConsoleIssueSink(PrintStream outputStream) {
+        this.outputStream = outputStream;
+        outputStream.println();
+        this.jsonIssueSink = new JsonIssueSink(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void accept(Issue issue) {
+        jsonIssueSink.accept(issue);
+    }
+
+    public void flush() {
+        jsonIssueSink.flush();
+        outputStream.flush();
+    }
+
+    @Override
+    public void complete() {
+        jsonIssueSink.complete();
+        outputStream.println();
+    }
+
+    // The issues printed so far stay on the console, the messages of the failure follow them
+    @Override
+    public void abort() {
+        flush();
+        outputStream.println();
+    }
+}
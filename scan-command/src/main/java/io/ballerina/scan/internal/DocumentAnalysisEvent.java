@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Flight recorder event covering the analysis of a single document by the inbuilt rules
+@Name("io.ballerina.scan.DocumentAnalysis")
+@Label("Document Analysis")
+@Category({"Ballerina", "Scan"})
+@Description("Analysis of a single Ballerina document by the inbuilt rules")
+public class DocumentAnalysisEvent extends Event {
+
+    @Label("Package")
+    String packageName;
+
+    @Label("Module")
+    String moduleName;
+
+    @Label("Document")
+    String documentName;
+
+    @Label("Document Size")
+    @DataAmount(DataAmount.BYTES)
+    long documentSize;
+
+    @Label("Issue Count")
+    long issueCount;
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.projects.Project;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Watches the package compilation running the external analyzers. The compiler runs the analyzers one at a time on
+// the compilation thread, the running analyzer is found by sampling the stack of the thread and its run lasts until
+// the compiler or another analyzer is found running instead. The compiler cannot be interrupted, so an analyzer
+// exceeding its budget is cancelled and fails on its next call to its scanner context, while the other analyzers
+// complete. An analyzer which does not stop within the grace period is abandoned along with the compilation.
+public class ExternalAnalysisWatchdog {
+
+    private static final long MAX_SAMPLING_INTERVAL_MILLIS = 10;
+
+    private final List<ExternalAnalyzer> externalAnalyzers;
+    private final AnalysisBudget analysisBudget;
+    private final long runBudget;
+    private final long gracePeriod;
+    private final Project project;
+
+    // The budgets are in nanoseconds
+    ExternalAnalysisWatchdog(List<ExternalAnalyzer> externalAnalyzers, AnalysisBudget analysisBudget, long runBudget,
+                             long gracePeriod, Project project) {
+        this.externalAnalyzers = externalAnalyzers;
+        this.analysisBudget = analysisBudget;
+        this.runBudget = runBudget;
+        this.gracePeriod = gracePeriod;
+        this.project = project;
+    }
+
+    // Returns false if the compilation was abandoned, its thread may still be running
+    boolean watch(Runnable compilationTask) {
+        ExecutorService compilationExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread compilationThread = new Thread(runnable, "bal-scan-compilation");
+            compilationThread.setDaemon(true);
+            return compilationThread;
+        });
+        AtomicReference<Thread> compilationThread = new AtomicReference<>();
+        Future<?> compilation = compilationExecutor.submit(() -> {
+            compilationThread.set(Thread.currentThread());
+            compilationTask.run();
+        });
+
+        long samplingInterval = Math.max(1, Math.min(TimeUnit.NANOSECONDS.toMillis(runBudget) / 10,
+                MAX_SAMPLING_INTERVAL_MILLIS));
+        ExternalAnalyzer runningAnalyzer = null;
+        long runStartTime = 0;
+        try {
+            while (true) {
+                try {
+                    compilation.get(samplingInterval, TimeUnit.MILLISECONDS);
+                    return true;
+                } catch (TimeoutException ex) {
+                    long currentTime = System.nanoTime();
+                    ExternalAnalyzer analyzer = findRunningAnalyzer(compilationThread.get());
+                    if (analyzer != runningAnalyzer) {
+                        runningAnalyzer = analyzer;
+                        runStartTime = currentTime;
+                    } else if (analyzer != null && !analyzer.isCancelled() && currentTime - runStartTime > runBudget) {
+                        analyzer.cancel();
+                        recordSkipped(analyzer, currentTime - runStartTime, "The external analyzer exceeded its "
+                                + "time budget of " + TimeUnit.NANOSECONDS.toMillis(runBudget) + " ms");
+                    } else if (analyzer != null && currentTime - runStartTime > runBudget + gracePeriod) {
+                        skipAnalyzers(currentTime - runStartTime, "The compilation running the external analyzers "
+                                + "was abandoned as " + analyzer.name() + " did not stop after exceeding its time "
+                                + "budget");
+                        return false;
+                    }
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        } catch (ExecutionException ex) {
+            // The compiler may fail on the failures of the cancelled analyzers, the results of all analyzers are
+            // incomplete then
+            if (externalAnalyzers.stream().noneMatch(ExternalAnalyzer::isCancelled)) {
+                throw new RuntimeException(ex.getCause());
+            }
+            skipAnalyzers(0, "The compilation running the external analyzers failed after an analyzer was "
+                    + "cancelled: " + ex.getCause());
+            return true;
+        } finally {
+            compilationExecutor.shutdown();
+        }
+    }
+
+    // Returns the innermost external analyzer on the stack of the thread, or null if only the compiler is running
+    private ExternalAnalyzer findRunningAnalyzer(Thread thread) {
+        if (thread == null) {
+            return null;
+        }
+        for (StackTraceElement frame : thread.getStackTrace()) {
+            for (ExternalAnalyzer analyzer : externalAnalyzers) {
+                if (analyzer.isRunningIn(frame)) {
+                    return analyzer;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void skipAnalyzers(long elapsedTime, String reason) {
+        externalAnalyzers.forEach(analyzer -> {
+            if (!analyzer.isCancelled()) {
+                analyzer.cancel();
+                recordSkipped(analyzer, elapsedTime, reason);
+            }
+        });
+    }
+
+    private void recordSkipped(ExternalAnalyzer analyzer, long elapsedTime, String reason) {
+        analysisBudget.recordSkipped(new SkippedAnalysis(analyzer.name(),
+                project.currentPackage().packageName().toString(), project.sourceRoot().toString(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedTime), reason));
+    }
+}
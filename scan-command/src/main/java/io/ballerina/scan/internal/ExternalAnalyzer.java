@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// An external analyzer engaged through the package compilation, which is skipped on its own once it exceeds its time
+// budget. The frames of the analyzer are identified by the package of its compiler plugin class.
+public class ExternalAnalyzer {
+
+    private final String name;
+    private final String classPrefix;
+    private final AtomicBoolean cancelled;
+    private final ScannerContextIml scannerContext;
+
+    ExternalAnalyzer(String name, String pluginClassName, AtomicBoolean cancelled, ScannerContextIml scannerContext) {
+        this.name = name;
+        // A plugin class in the unnamed package only identifies its own frames
+        int packageEnd = pluginClassName.lastIndexOf('.');
+        this.classPrefix = packageEnd < 0 ? pluginClassName : pluginClassName.substring(0, packageEnd + 1);
+        this.cancelled = cancelled;
+        this.scannerContext = scannerContext;
+    }
+
+    String name() {
+        return name;
+    }
+
+    ScannerContextIml scannerContext() {
+        return scannerContext;
+    }
+
+    boolean isRunningIn(StackTraceElement frame) {
+        return frame.getClassName().startsWith(classPrefix);
+    }
+
+    // The cancelled analyzer fails on its next call to its scanner context, and its results are discarded
+    void cancel() {
+        cancelled.set(true);
+    }
+
+    boolean isCancelled() {
+        return cancelled.get();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+// Tracks the peak heap usage through the JVM memory pools, which also captures the peaks in between GC cycles
+public class HeapUsageMonitor {
+
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+    private static long gcTimeBaseline = 0;
+
+    private HeapUsageMonitor() {
+    }
+
+    static void reset() {
+        ManagementFactory.getMemoryPoolMXBeans().forEach(memoryPool -> {
+            if (memoryPool.getType() == MemoryType.HEAP) {
+                memoryPool.resetPeakUsage();
+            }
+        });
+        gcTimeBaseline = totalGcTime();
+    }
+
+    // Time spent on garbage collection since the last reset in milliseconds
+    static long gcTimeInMillis() {
+        return totalGcTime() - gcTimeBaseline;
+    }
+
+    private static long totalGcTime() {
+        long gcTime = 0;
+        for (GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // The collection time is -1 when the collector does not support it
+            gcTime += Math.max(garbageCollector.getCollectionTime(), 0);
+        }
+        return gcTime;
+    }
+
+    // The sum of the peaks of each heap pool, an upper bound of the heap used at any point of the scan
+    static long peakHeapUsageInMegabytes() {
+        long peakHeapUsage = 0;
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.HEAP && memoryPool.getPeakUsage() != null) {
+                peakHeapUsage += memoryPool.getPeakUsage().getUsed();
+            }
+        }
+        return peakHeapUsage / BYTES_PER_MEGABYTE;
+    }
+}
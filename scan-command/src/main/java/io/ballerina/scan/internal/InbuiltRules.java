@@ -27,6 +27,7 @@ import java.util.List;
 public class InbuiltRules {
 
     static final List<Rule> INBUILT_RULES = new ArrayList<>();
+    static final List<RuleCheck> INBUILT_RULE_CHECKS = new ArrayList<>();
 
     static {
         INBUILT_RULES.add(RuleFactory.createRule(107,
@@ -35,6 +36,13 @@ public class InbuiltRules {
         INBUILT_RULES.add(RuleFactory.createRule(108,
                 "Avoid checkpanic, prefer explicit error handling using check keyword instead!",
                 Severity.CODE_SMELL));
+
+        INBUILT_RULE_CHECKS.add(new TooManyParametersCheck());
+        INBUILT_RULE_CHECKS.add(new CheckpanicCheck());
+    }
+
+    static String ruleId(int numericId) {
+        return ScanToolConstants.BALLERINA_RULE_PREFIX + numericId;
     }
 
     private InbuiltRules() {
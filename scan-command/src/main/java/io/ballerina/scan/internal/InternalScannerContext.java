@@ -18,7 +18,6 @@
 
 package io.ballerina.scan.internal;
 
-import io.ballerina.scan.Issue;
 import io.ballerina.scan.Rule;
 
 import java.util.List;
@@ -26,12 +25,48 @@ import java.util.List;
 public class InternalScannerContext {
 
     private final InternalReporter reporter;
+    private final CompilationCache compilationCache;
+    private final RuleDispatcher ruleDispatcher;
+    private final AnalysisBudget analysisBudget;
+    private final RuleProfiler ruleProfiler;
+    private volatile boolean abandoned = false;
 
-    InternalScannerContext(List<Issue> issues, List<Rule> rules) {
+    InternalScannerContext(IssueStore issues, List<Rule> rules, CompilationCache compilationCache,
+                           RuleDispatcher ruleDispatcher, AnalysisBudget analysisBudget, RuleProfiler ruleProfiler) {
         this.reporter = new InternalReporter(issues, rules);
+        this.compilationCache = compilationCache;
+        this.ruleDispatcher = ruleDispatcher;
+        this.analysisBudget = analysisBudget;
+        this.ruleProfiler = ruleProfiler;
     }
 
     InternalReporter getReporter() {
         return reporter;
     }
+
+    CompilationCache getCompilationCache() {
+        return compilationCache;
+    }
+
+    RuleDispatcher getRuleDispatcher() {
+        return ruleDispatcher;
+    }
+
+    AnalysisBudget getAnalysisBudget() {
+        return analysisBudget;
+    }
+
+    // Returns null when profiling is disabled
+    RuleProfiler getRuleProfiler() {
+        return ruleProfiler;
+    }
+
+    // The issues of an abandoned analysis are discarded, as its thread may still be reporting them
+    void abandon() {
+        abandoned = true;
+    }
+
+    boolean isAbandoned() {
+        return abandoned;
+    }
 }
@@ -49,6 +49,17 @@ public class IssueIml implements Issue {
         this.filePath = filePath;
     }
 
+    // Creates an issue from the packed location of an issue store
+    IssueIml(String locationFile, int startLine, int endLine, int startColumn, int endColumn, int startOffset,
+             int length, Rule rule, Source source, String fileName, String filePath) {
+        this.location = new BLangDiagnosticLocation(locationFile, startLine, endLine, startColumn, endColumn,
+                startOffset, length);
+        this.rule = (RuleIml) rule;
+        this.source = source;
+        this.fileName = fileName;
+        this.filePath = filePath;
+    }
+
     @Override
     public Location location() {
         return location;
@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.projects.Document;
+import io.ballerina.scan.Issue;
+import io.ballerina.scan.Rule;
+import io.ballerina.scan.Source;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+
+// Stores the issues as packed integers referring to the document, file name and rule tables of the scan instead of
+// holding an issue object, a location and the file name and path strings per issue. The issues are only created on
+// access, when they are passed to the sinks, which keep them packed again if they outlive the call.
+public class IssueStore extends AbstractList<Issue> {
+
+    // Layout of the packed fields of each issue
+    private static final int DOCUMENT = 0;
+    private static final int LOCATION_FILE = 1;
+    private static final int RULE = 2;
+    private static final int SOURCE = 3;
+    private static final int START_LINE = 4;
+    private static final int START_COLUMN = 5;
+    private static final int END_LINE = 6;
+    private static final int END_COLUMN = 7;
+    private static final int START_OFFSET = 8;
+    private static final int LENGTH = 9;
+    private static final int FIELDS = 10;
+
+    // The largest array the VMs allocate, rounded down to whole issues
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - 8) / FIELDS * FIELDS;
+
+    private static final Source[] SOURCES = Source.values();
+
+    private int[] fields = new int[0];
+    private int size = 0;
+    private final IssueTables tables;
+
+    // The issues are stored against tables of their own
+    public IssueStore() {
+        this(new IssueTables());
+    }
+
+    // The issues are stored against the tables shared by the other stores of the scan
+    public IssueStore(IssueTables tables) {
+        this.tables = tables;
+    }
+
+    // Adds an issue reported on a document, the file name and path of each document are only resolved once
+    void add(Document document, Location location, Rule rule, Source source) {
+        add(tables.document(document), location, rule, source);
+    }
+
+    @Override
+    public boolean add(Issue issue) {
+        IssueIml issueIml = (IssueIml) issue;
+        add(tables.document(issueIml.fileName(), issueIml.filePath()), issue.location(), issue.rule(), issue.source());
+        return true;
+    }
+
+    private void add(int documentIndex, Location location, Rule rule, Source source) {
+        if ((long) (size + 1) * FIELDS > fields.length) {
+            grow();
+        }
+        pack(size, documentIndex, location, rule, source);
+        size++;
+        modCount++;
+    }
+
+    private void pack(int index, int documentIndex, Location location, Rule rule, Source source) {
+        LineRange lineRange = location.lineRange();
+        TextRange textRange = location.textRange();
+        int offset = index * FIELDS;
+        fields[offset + DOCUMENT] = documentIndex;
+        fields[offset + LOCATION_FILE] = tables.locationFile(lineRange.fileName());
+        fields[offset + RULE] = tables.rule(rule);
+        fields[offset + SOURCE] = source.ordinal();
+        fields[offset + START_LINE] = lineRange.startLine().line();
+        fields[offset + START_COLUMN] = lineRange.startLine().offset();
+        fields[offset + END_LINE] = lineRange.endLine().line();
+        fields[offset + END_COLUMN] = lineRange.endLine().offset();
+        fields[offset + START_OFFSET] = textRange.startOffset();
+        fields[offset + LENGTH] = textRange.length();
+    }
+
+    // Doubles the capacity in long arithmetic, as doubling past a billion fields overflows an int
+    private void grow() {
+        if (fields.length >= MAX_CAPACITY) {
+            throw new IllegalStateException("Cannot store more than " + MAX_CAPACITY / FIELDS + " issues");
+        }
+        long capacity = Math.max(fields.length * 2L, FIELDS * 4L);
+        fields = Arrays.copyOf(fields, (int) Math.min(capacity, MAX_CAPACITY));
+    }
+
+    @Override
+    public Issue get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        int offset = index * FIELDS;
+        int documentIndex = fields[offset + DOCUMENT];
+        return new IssueIml(tables.locationFile(fields[offset + LOCATION_FILE]), fields[offset + START_LINE],
+                fields[offset + END_LINE], fields[offset + START_COLUMN], fields[offset + END_COLUMN],
+                fields[offset + START_OFFSET], fields[offset + LENGTH], tables.rule(fields[offset + RULE]),
+                SOURCES[fields[offset + SOURCE]], tables.fileName(documentIndex), tables.filePath(documentIndex));
+    }
+
+    // The issues can be replaced and removed, as the platforms receiving the store may sort or filter it
+    @Override
+    public Issue set(int index, Issue issue) {
+        Issue previousIssue = get(index);
+        IssueIml issueIml = (IssueIml) issue;
+        pack(index, tables.document(issueIml.fileName(), issueIml.filePath()), issue.location(), issue.rule(),
+                issue.source());
+        return previousIssue;
+    }
+
+    @Override
+    public Issue remove(int index) {
+        Issue removedIssue = get(index);
+        System.arraycopy(fields, (index + 1) * FIELDS, fields, index * FIELDS, (size - index - 1) * FIELDS);
+        size--;
+        modCount++;
+        return removedIssue;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Releases the issues, the tables are kept for the issues reported afterwards
+    @Override
+    public void clear() {
+        fields = new int[0];
+        size = 0;
+        modCount++;
+    }
+}
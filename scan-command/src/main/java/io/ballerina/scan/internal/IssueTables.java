@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.scan.Rule;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Document, location file and rule tables the issue stores of a scan refer to, so that each document and rule is only
+// resolved and held once for the whole scan instead of once per store. The stores are filled by the analysis threads
+// concurrently, so the tables are synchronized.
+public final class IssueTables {
+
+    // Documents identified by their file path, along with their 'moduleName/documentName' file names
+    private final List<String> filePaths = new ArrayList<>();
+    private final List<String> fileNames = new ArrayList<>();
+    private final Map<String, Integer> documentsByPath = new HashMap<>();
+    private final Map<DocumentId, Integer> documentsById = new HashMap<>();
+
+    private final List<String> locationFiles = new ArrayList<>();
+    private final Map<String, Integer> locationFileIndexes = new HashMap<>();
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<String, Integer> ruleIndexes = new HashMap<>();
+
+    // The file name and path of each document are only resolved once
+    synchronized int document(Document document) {
+        Integer documentIndex = documentsById.get(document.documentId());
+        if (documentIndex == null) {
+            String documentName = document.name();
+            Module module = document.module();
+            String filePath = module.project().documentPath(document.documentId())
+                    .orElse(Path.of(documentName)).toString();
+            documentIndex = document(module.moduleName() + ScanToolConstants.PATH_SEPARATOR + documentName,
+                    filePath);
+            documentsById.put(document.documentId(), documentIndex);
+        }
+        return documentIndex;
+    }
+
+    synchronized int document(String fileName, String filePath) {
+        return documentsByPath.computeIfAbsent(filePath, path -> {
+            filePaths.add(filePath);
+            fileNames.add(fileName);
+            return filePaths.size() - 1;
+        });
+    }
+
+    synchronized int locationFile(String locationFile) {
+        return locationFileIndexes.computeIfAbsent(locationFile, file -> {
+            locationFiles.add(locationFile);
+            return locationFiles.size() - 1;
+        });
+    }
+
+    synchronized int rule(Rule rule) {
+        return ruleIndexes.computeIfAbsent(rule.id(), id -> {
+            rules.add(rule);
+            return rules.size() - 1;
+        });
+    }
+
+    synchronized String filePath(int documentIndex) {
+        return filePaths.get(documentIndex);
+    }
+
+    synchronized String fileName(int documentIndex) {
+        return fileNames.get(documentIndex);
+    }
+
+    synchronized String locationFile(int locationFileIndex) {
+        return locationFiles.get(locationFileIndex);
+    }
+
+    synchronized Rule rule(int ruleIndex) {
+        return rules.get(ruleIndex);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.scan.Severity;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Limits on the number of reported issues, the scan stops early once a limit is exceeded
+public class IssueThreshold {
+
+    static final IssueThreshold NONE = new IssueThreshold(null, Collections.emptyMap());
+
+    private final Integer maxIssues;
+    private final Map<Severity, Integer> maxIssuesBySeverity;
+    private final Map<Severity, Integer> issuesBySeverity = new EnumMap<>(Severity.class);
+    private final boolean enabled;
+    private int issueCount = 0;
+    private volatile String exceededLimit = null;
+
+    // A null maximum disables the limit on the total number of issues
+    IssueThreshold(Integer maxIssues, Map<Severity, Integer> maxIssuesBySeverity) {
+        this.maxIssues = maxIssues;
+        this.maxIssuesBySeverity = maxIssuesBySeverity.isEmpty()
+                ? Collections.emptyMap()
+                : new EnumMap<>(maxIssuesBySeverity);
+        this.enabled = maxIssues != null || !maxIssuesBySeverity.isEmpty();
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    synchronized void record(Severity severity) {
+        if (!enabled || exceededLimit != null) {
+            return;
+        }
+
+        issueCount++;
+        if (maxIssues != null && issueCount > maxIssues) {
+            exceededLimit = "more than " + maxIssues + " issue(s) were found";
+            return;
+        }
+
+        Integer maxSeverityIssues = maxIssuesBySeverity.get(severity);
+        if (maxSeverityIssues != null) {
+            int severityIssueCount = issuesBySeverity.merge(severity, 1, Integer::sum);
+            if (severityIssueCount > maxSeverityIssues) {
+                exceededLimit = "more than " + maxSeverityIssues + " " + severity + " issue(s) were found";
+            }
+        }
+    }
+
+    boolean isExceeded() {
+        return exceededLimit != null;
+    }
+
+    // Returns null if no limit was exceeded
+    String exceededLimit() {
+        return exceededLimit;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+import io.ballerina.scan.Issue;
+import io.ballerina.scan.IssueSink;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// Writes the issues as a JSON array one by one, without holding the complete array in memory
+public class JsonIssueSink implements IssueSink {
+
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private final Writer writer;
+    private final JsonWriter jsonWriter;
+
+    public JsonIssueSink(Writer writer) {
+        this.writer = writer;
+        try {
+            this.jsonWriter = gson.newJsonWriter(writer);
+            jsonWriter.beginArray();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void accept(Issue issue) {
+        gson.toJson(issue, issue.getClass(), jsonWriter);
+    }
+
+    // Writes the issues accepted so far through to the writer
+    public void flush() {
+        try {
+            jsonWriter.flush();
+            writer.flush();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void complete() {
+        try {
+            jsonWriter.endArray();
+            jsonWriter.flush();
+            writer.flush();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+}
@@ -22,7 +22,6 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
-import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.BallerinaToml;
 import io.ballerina.projects.CompilerPluginCache;
@@ -30,7 +29,7 @@ import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentConfig;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
-import io.ballerina.projects.ModuleCompilation;
+import io.ballerina.projects.ModuleDescriptor;
 import io.ballerina.projects.ModuleId;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageDependencyScope;
@@ -42,26 +41,36 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.ResolvedPackageDependency;
 import io.ballerina.scan.Issue;
+import io.ballerina.scan.IssueSink;
 import io.ballerina.scan.Rule;
-import io.ballerina.scan.ScannerContext;
 import io.ballerina.scan.Severity;
 import io.ballerina.scan.utilities.ScanTomlFile;
+import io.ballerina.scan.utilities.ScanUtils;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import static io.ballerina.projects.util.ProjectConstants.IMPORT_PREFIX;
 import static io.ballerina.scan.internal.ScanToolConstants.IMPORT_GENERATOR_FILE;
@@ -71,19 +80,171 @@ import static io.ballerina.scan.internal.ScanToolConstants.USE_IMPORT_AS_SERVICE
 
 public class ProjectAnalyzer {
 
+    // An analysis exceeding its time budget is abandoned once it does not stop within the grace period, the running
+    // analyses are checked at the watch interval
+    private static final long ABANDON_GRACE_PERIOD = TimeUnit.SECONDS.toNanos(1);
+    private static final long WATCH_INTERVAL_MILLIS = 10;
+
+    // Analyzes the documents with a time budget on daemon threads, which can be abandoned
+    private static final ExecutorService BUDGETED_ANALYSIS_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread analysisThread = new Thread(runnable, "bal-scan-budgeted-analysis");
+        analysisThread.setDaemon(true);
+        return analysisThread;
+    });
+
     private final ScanTomlFile scanTomlFile;
+    private final int threads;
+    private final boolean incremental;
+    private final boolean lowMemory;
+    private final CompilationCache compilationCache;
+    private final RuleFilter ruleFilter;
+    private final List<Rule> enabledInbuiltRules = new ArrayList<>();
+    private final RuleDispatcher ruleDispatcher;
+    private final List<ExternalAnalyzer> externalAnalyzers = new ArrayList<>();
+    private DocumentId importGeneratorDocumentId = null;
+    private int analyzedDocumentCount = 0;
+    private final LongAdder analyzedLineCount = new LongAdder();
+    private Set<Path> documentPaths = null;
+    private AnalysisBudget analysisBudget = new AnalysisBudget(0, 0);
+    private final List<String> engagedAnalyzers = new ArrayList<>();
+    private volatile boolean analysisAbandoned = false;
+    private final SyntaxNodeIndexCache syntaxNodeIndexCache = new SyntaxNodeIndexCache();
+    private final IssueTables issueTables = new IssueTables();
+    private RuleProfiler ruleProfiler = null;
+    private IssueThreshold issueThreshold = IssueThreshold.NONE;
+    private Shard shard = null;
+    private Path reportDirectory = null;
+    private Set<DocumentId> analyzedDocumentIds = Collections.emptySet();
+    private final long[] workerIdleTimes;
+
+    ProjectAnalyzer(ScanTomlFile scanTomlFile, RuleFilter ruleFilter, int threads, boolean incremental,
+                    boolean lowMemory) {
+        this(scanTomlFile, ruleFilter, threads, incremental, lowMemory, new Object());
+    }
 
-    ProjectAnalyzer(ScanTomlFile scanTomlFile) {
+    ProjectAnalyzer(ScanTomlFile scanTomlFile, RuleFilter ruleFilter, int threads, boolean incremental,
+                    boolean lowMemory, Object compilerLock) {
+        this.compilationCache = new CompilationCache(compilerLock);
         this.scanTomlFile = scanTomlFile;
+        this.ruleFilter = ruleFilter;
+
+        // Disabled inbuilt rules are never dispatched to
+        BitSet enabledRules = ruleFilter.enabledRules(InbuiltRules.INBUILT_RULES);
+        InbuiltRules.INBUILT_RULES.forEach(rule -> {
+            if (enabledRules.get(rule.numericId())) {
+                enabledInbuiltRules.add(rule);
+            }
+        });
+        List<RuleCheck> enabledRuleChecks = new ArrayList<>();
+        InbuiltRules.INBUILT_RULE_CHECKS.forEach(ruleCheck -> {
+            if (enabledRules.get(ruleCheck.numericId())) {
+                enabledRuleChecks.add(ruleCheck);
+            }
+        });
+        this.ruleDispatcher = new RuleDispatcher(enabledRuleChecks);
+
+        this.threads = threads;
+        this.incremental = incremental;
+        this.lowMemory = lowMemory;
+        this.workerIdleTimes = new long[threads];
+    }
+
+    // Restricts the analysis to the documents with the given real paths
+    void setDocumentPaths(Set<Path> documentPaths) {
+        this.documentPaths = documentPaths;
+    }
+
+    // Restricts the analysis to the documents of the given shard of the package
+    void setShard(Shard shard) {
+        this.shard = shard;
+    }
+
+    // The directory the results of the scan are saved to, the scan cache is kept there as well
+    void setReportDirectory(Path reportDirectory) {
+        this.reportDirectory = reportDirectory;
+    }
+
+    // Time budgets in milliseconds, zero disables the corresponding budget
+    void setTimeBudgets(long ruleTimeoutMillis, long documentTimeoutMillis) {
+        this.analysisBudget = new AnalysisBudget(ruleTimeoutMillis, documentTimeoutMillis);
+    }
+
+    // The threshold has to be set before the external analyzers are engaged
+    void setIssueThreshold(IssueThreshold issueThreshold) {
+        this.issueThreshold = issueThreshold;
+    }
+
+    // Returns the exceeded issue limit, or null if the scan completed within the issue threshold
+    public String exceededIssueLimit() {
+        return issueThreshold.exceededLimit();
+    }
+
+    // Profiling has to be enabled before the external analyzers are engaged
+    void enableProfiling() {
+        this.ruleProfiler = new RuleProfiler();
+    }
+
+    // Returns null when profiling is disabled
+    RuleProfiler getRuleProfiler() {
+        return ruleProfiler;
+    }
+
+    public List<SkippedAnalysis> getSkippedAnalyses() {
+        return analysisBudget.skippedAnalyses();
+    }
+
+    // Whether a thread analyzing the project was abandoned after exceeding its time budget, the abandoned thread may
+    // still be using the project
+    public boolean isAnalysisAbandoned() {
+        return analysisAbandoned;
+    }
+
+    // Tables of the issues reported in the scan, the stores keeping the issues beyond the scan can refer to them
+    IssueTables issueTables() {
+        return issueTables;
+    }
+
+    public int compilationCount() {
+        return compilationCache.compilationCount();
+    }
+
+    public int analyzedDocumentCount() {
+        return analyzedDocumentCount;
+    }
+
+    public long analyzedLineCount() {
+        return analyzedLineCount.sum();
+    }
+
+    // Time in nanoseconds each analysis thread waited for the other threads to complete their documents
+    public List<Long> workerIdleTimes() {
+        List<Long> idleTimes = new ArrayList<>(workerIdleTimes.length);
+        for (long idleTime : workerIdleTimes) {
+            idleTimes.add(idleTime);
+        }
+        return idleTimes;
     }
 
     public List<Rule> getExternalAnalyzerRules(Project project) {
         List<Rule> externalRules = new ArrayList<>();
 
+        // The package is left unmodified when there are no analyzers defined in Scan.toml
+        if (scanTomlFile.getAnalyzers().isEmpty()) {
+            return externalRules;
+        }
+
+        // Load rules from compiler plugins found in the generated imports
+        addAnalyzerImports(project);
+        getAnalyzerManifests(project).forEach(pkgManifest -> externalRules.addAll(loadExternalRules(pkgManifest)));
+        return externalRules;
+    }
+
+    // Imports the analyzers defined in Scan.toml through an in-memory document of the default module, and adds them
+    // to Ballerina.toml as dependencies when their version is provided
+    private DocumentId addAnalyzerImports(Project project) {
         // Get the analyzer plugins as imports & generate them as toml dependencies if version is provided
         StringBuilder newImports = new StringBuilder();
         StringBuilder tomlDependencies = new StringBuilder();
-        List<String> analyzerDescriptors = new ArrayList<>();
 
         scanTomlFile.getAnalyzers().forEach(analyzer -> {
             // Generate analyzer as import
@@ -91,8 +252,6 @@ public class ProjectAnalyzer {
                     + USE_IMPORT_AS_SERVICE;
             newImports.append(analyzerImport).append("\n");
 
-            analyzerDescriptors.add(analyzer.getOrg() + PATH_SEPARATOR + analyzer.getName());
-
             // Generate toml dependencies if version provided
             if (analyzer.getVersion() != null) {
                 tomlDependencies.append("\n");
@@ -135,326 +294,549 @@ public class ProjectAnalyzer {
             String documentContent = ballerinaToml.tomlDocument().textDocument().toString();
             ballerinaToml.modify().withContent(documentContent + tomlDependencies).apply();
         }
+        return documentId;
+    }
+
+    // Manifests of the imported compiler plugins which are defined as analyzers in Scan.toml
+    private List<PackageManifest> getAnalyzerManifests(Project project) {
+        List<String> analyzerDescriptors = new ArrayList<>();
+        scanTomlFile.getAnalyzers().forEach(analyzer -> {
+            analyzerDescriptors.add(analyzer.getOrg() + PATH_SEPARATOR + analyzer.getName());
+        });
 
         // Get direct dependencies of in memory BAL file through project API
         PackageResolution packageResolution = project.currentPackage().getResolution();
         ResolvedPackageDependency rootPkgNode = new ResolvedPackageDependency(project.currentPackage(),
                 PackageDependencyScope.DEFAULT);
 
-        List<Package> directDependencies = packageResolution.dependencyGraph()
+        List<PackageManifest> analyzerManifests = new ArrayList<>();
+        packageResolution.dependencyGraph()
                 .getDirectDependencies(rootPkgNode)
-                .stream()
-                .map(ResolvedPackageDependency::packageInstance)
-                .toList();
+                .forEach(dependency -> {
+                    PackageManifest pkgManifest = dependency.packageInstance().manifest();
+
+                    // Check if import is a compiler plugin defined in Scan.toml file by comparing org and name
+                    if (pkgManifest.compilerPluginDescriptor().isPresent()
+                            && analyzerDescriptors.contains(pkgManifest.org() + PATH_SEPARATOR + pkgManifest.name())) {
+                        analyzerManifests.add(pkgManifest);
+                    }
+                });
+        return analyzerManifests;
+    }
+
+    // There is only 1 plugin descriptor per compiler plugin, its dependencies are the JARs of the plugin
+    private static List<String> getPluginJarPaths(PackageManifest pkgManifest) {
+        List<String> jarPaths = new ArrayList<>();
+        pkgManifest.compilerPluginDescriptor().ifPresent(pluginDesc -> {
+            pluginDesc.dependencies().forEach(dependency -> {
+                jarPaths.add(dependency.getPath());
+            });
+        });
+        return jarPaths;
+    }
 
-        // Load rules from compiler plugins found in imports of main BAL file
-        for (Package pkgDependency : directDependencies) {
-            PackageManifest pkgManifest = pkgDependency.manifest();
-
-            // Retrieve org and name of each import
-            PackageOrg org = pkgManifest.org();
-            PackageName name = pkgManifest.name();
-
-            // Check if import is a compiler plugin
-            pkgManifest.compilerPluginDescriptor()
-                    .ifPresent(pluginDesc -> {
-
-                        // Check if compiler plugin is one defined in Scan.toml file by comparing org and name
-                        String reportedSource = org + PATH_SEPARATOR + name;
-                        if (analyzerDescriptors.contains(reportedSource)) {
-                            try {
-                                // Get the URL of the imported compiler plugin
-                                List<String> jarPaths = new ArrayList<>();
-
-                                // There is only 1 pluginDesc per compiler plugin
-                                pluginDesc.dependencies().forEach(dependency -> {
-                                    jarPaths.add(dependency.getPath());
-                                });
-
-                                // Create a URLClassLoader
-                                List<URL> jarUrls = new ArrayList<>();
-                                jarPaths.forEach(jarPath -> {
-                                    try {
-                                        URL jarUrl = Path.of(jarPath).toUri().toURL();
-                                        jarUrls.add(jarUrl);
-                                    } catch (MalformedURLException ex) {
-                                        throw new RuntimeException(ex);
-                                    }
-                                });
-                                URLClassLoader ucl = new URLClassLoader(jarUrls.toArray(new URL[0]),
-                                        this.getClass().getClassLoader());
-
-                                // Obtain rules if present
-                                InputStream resourceAsStream = ucl.getResourceAsStream(RULES_FILE);
-
-                                if (resourceAsStream != null) {
-                                    StringBuilder stringBuilder = new StringBuilder();
-                                    try (BufferedReader reader = new BufferedReader(
-                                            new InputStreamReader(resourceAsStream,
-                                                    StandardCharsets.UTF_8))) {
-                                        String line;
-                                        while ((line = reader.readLine()) != null) {
-                                            stringBuilder.append(line);
-                                        }
-                                    } catch (IOException e) {
-                                        throw new RuntimeException(e);
-                                    }
-                                    Gson gson = new GsonBuilder().setPrettyPrinting().create();
-                                    JsonArray ruleArray = gson.fromJson(stringBuilder.toString(), JsonArray.class);
-
-                                    // Generate in memory rules
-                                    ruleArray.forEach(rule -> {
-                                        JsonObject ruleObject = rule.getAsJsonObject();
-                                        int numericId = ruleObject.get("id").getAsInt();
-                                        Severity severity = switch (ruleObject.get("severity").getAsString()) {
-                                            case "BUG" -> Severity.BUG;
-                                            case "VULNERABILITY" -> Severity.VULNERABILITY;
-                                            case "CODE_SMELL" -> Severity.CODE_SMELL;
-                                            default -> null;
-                                        };
-                                        String description = ruleObject.get("description").getAsString();
-
-                                        // Create in memory rule objects
-                                        if (severity != null) {
-                                            Rule inMemoryRule = RuleFactory.createRule(numericId, description, severity,
-                                                    org.value(), name.value());
-                                            externalRules.add(inMemoryRule);
-                                        }
-                                    });
-                                }
-                            } catch (SecurityException | IllegalArgumentException ex) {
-                                throw new RuntimeException(ex);
-                            }
-                        }
-                    });
+    // Creates in-memory rules from the rules.json of the compiler plugin JARs, if present
+    private static List<Rule> loadExternalRules(PackageManifest pkgManifest) {
+        List<Rule> externalRules = new ArrayList<>();
+        String rules = ClassLoaderCache.readResource(getPluginJarPaths(pkgManifest), RULES_FILE);
+        if (rules == null) {
+            return externalRules;
         }
 
+        // Parse the rules
+        PackageOrg org = pkgManifest.org();
+        PackageName name = pkgManifest.name();
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        JsonArray ruleArray = gson.fromJson(rules, JsonArray.class);
+        ruleArray.forEach(rule -> {
+            JsonObject ruleObject = rule.getAsJsonObject();
+            int numericId = ruleObject.get("id").getAsInt();
+            Severity severity = switch (ruleObject.get("severity").getAsString()) {
+                case "BUG" -> Severity.BUG;
+                case "VULNERABILITY" -> Severity.VULNERABILITY;
+                case "CODE_SMELL" -> Severity.CODE_SMELL;
+                default -> null;
+            };
+            String description = ruleObject.get("description").getAsString();
+
+            // Create in memory rule objects
+            if (severity != null) {
+                externalRules.add(RuleFactory.createRule(numericId, description, severity, org.value(),
+                        name.value()));
+            }
+        });
         return externalRules;
     }
 
-    public List<Issue> analyzeProject(Project project) {
-        // Issues store
-        List<Issue> allIssues = new ArrayList<>();
-        InternalScannerContext internalScannerContext = new InternalScannerContext(allIssues,
-                InbuiltRules.INBUILT_RULES);
-
+    public void analyzeProject(Project project, IssueSink issueSink) {
+        // Reuse the cached results of documents which did not change since the previous scan
+        ScanCache scanCache = incremental && project.kind().equals(ProjectKind.BUILD_PROJECT)
+                ? ScanCache.load(project, reportDirectory != null ? reportDirectory
+                        : ScanUtils.getReportDirectory(project, null), enabledInbuiltRules,
+                        ruleDispatcher.requiresSemanticModel())
+                : null;
+
+        // Collect the documents to be analyzed in a deterministic order, only the document IDs are retained so
+        // that the documents and their syntax trees are not held for the whole scan
+        List<DocumentId> allDocumentIds = new ArrayList<>();
         if (project.kind().equals(ProjectKind.SINGLE_FILE_PROJECT)) {
-            Module tempModule = project.currentPackage().getDefaultModule();
-            tempModule.documentIds().forEach(documentId -> {
-                analyzeDocument(tempModule.document(documentId), internalScannerContext);
-            });
+            allDocumentIds.addAll(project.currentPackage().getDefaultModule().documentIds());
         } else {
             // Iterate through each module of the project
-            project.currentPackage().moduleIds().forEach(moduleId -> {
+            getModuleIds(project.currentPackage()).forEach(moduleId -> {
                 // Get access to the project modules
                 Module module = project.currentPackage().module(moduleId);
 
                 // Iterate through each ballerina test file in a ballerina project and perform static analysis
-                module.testDocumentIds().forEach(testDocumentID -> {
-                    analyzeDocument(module.document(testDocumentID), internalScannerContext);
-                });
+                allDocumentIds.addAll(module.testDocumentIds());
 
                 // Iterate through each document of the Main module/project + submodules
                 module.documentIds().forEach(documentId -> {
-                    analyzeDocument(module.document(documentId), internalScannerContext);
+                    // Skip the in-memory document generated for engaging the external analyzers
+                    if (!documentId.equals(importGeneratorDocumentId)) {
+                        allDocumentIds.add(documentId);
+                    }
                 });
             });
         }
 
-        // return the detected issues
-        return allIssues;
+        // Restrict the analysis to the documents in scope
+        List<DocumentId> scopedDocumentIds = new ArrayList<>();
+        allDocumentIds.forEach(documentId -> {
+            if (isInScope(project, documentId)) {
+                scopedDocumentIds.add(documentId);
+            } else if (scanCache != null) {
+                scanCache.retainIssues(getDocument(project.currentPackage(), documentId));
+            }
+        });
+
+        // The shards are partitioned from the documents in scope, the external issues are restricted to them as well
+        List<DocumentId> documentIds = shard != null ? shard.select(project, scopedDocumentIds) : scopedDocumentIds;
+        analyzedDocumentIds = new HashSet<>(documentIds);
+
+        // Compile the package once to engage the external analyzers injected beforehand, the inbuilt rules
+        // compile the modules lazily only when a rule check requires the semantic model. The external issues count
+        // towards the issue threshold as they are reported, so that the analyzers stop early.
+        if (!externalAnalyzers.isEmpty()) {
+            long compilationStartTime = System.nanoTime();
+            compilePackage(project);
+            syntaxNodeIndexCache.clear();
+
+            // The external analyzers can only be timed together with the compilation running them
+            if (ruleProfiler != null) {
+                ruleProfiler.recordElapsedTime(String.join(", ", engagedAnalyzers) + " (package compilation)",
+                        System.nanoTime() - compilationStartTime);
+            }
+        }
+
+        // Each document reports to its own issues store, which keeps the output order independent of threads
+        List<List<Issue>> documentIssues = new ArrayList<>(Collections.nCopies(documentIds.size(), null));
+        List<Integer> documentsToAnalyze = new ArrayList<>();
+        IssueEmitter issueEmitter = new IssueEmitter(project, documentIds, documentIssues, scanCache,
+                issueThreshold, issueSink);
+
+        for (int index = 0; index < documentIds.size(); index++) {
+            Document document = getDocument(project.currentPackage(), documentIds.get(index));
+            List<Issue> cachedIssues = null;
+            if (scanCache != null) {
+                String cacheKey = scanCache.cacheKey(document);
+                issueEmitter.cacheKeys.add(cacheKey);
+                cachedIssues = scanCache.getIssues(document, cacheKey);
+            }
+
+            if (cachedIssues != null) {
+                issueEmitter.emit(index, cachedIssues, true);
+            } else {
+                documentsToAnalyze.add(index);
+            }
+        }
+        analyzedDocumentCount = documentsToAnalyze.size();
+
+        if (!lowMemory) {
+            analyzeDocuments(project.currentPackage(), documentIds, documentsToAnalyze, issueEmitter);
+        } else {
+            // Analyze one module at a time and release its semantic model and symbol lookups through the compilation
+            // cache before moving to the next module, the syntax trees are released after each document
+            compilationCache.releasePackageCompilation();
+            Map<ModuleId, List<Integer>> moduleDocuments = new LinkedHashMap<>();
+            documentsToAnalyze.forEach(index -> {
+                moduleDocuments.computeIfAbsent(documentIds.get(index).moduleId(), moduleId -> new ArrayList<>())
+                        .add(index);
+            });
+            moduleDocuments.forEach((moduleId, moduleDocumentsToAnalyze) -> {
+                analyzeDocuments(project.currentPackage(), documentIds, moduleDocumentsToAnalyze, issueEmitter);
+                compilationCache.releaseSemanticModel(moduleId);
+            });
+        }
+
+        if (scanCache != null) {
+            scanCache.save();
+        }
     }
 
-    public void analyzeDocument(Document currentDocument, InternalScannerContext internalScannerContext) {
-        // Retrieve syntax tree of each document
-        SyntaxTree syntaxTree = currentDocument.syntaxTree();
+    // Returns the module IDs of the package, in dependency order when scanning in the low memory mode
+    private List<ModuleId> getModuleIds(Package currentPackage) {
+        if (!lowMemory) {
+            return new ArrayList<>(currentPackage.moduleIds());
+        }
 
-        // Get semantic model from module compilation
-        ModuleCompilation compilation = currentDocument.module().getCompilation();
-        SemanticModel semanticModel = compilation.getSemanticModel();
+        Map<ModuleDescriptor, ModuleId> moduleIds = new HashMap<>();
+        currentPackage.modules().forEach(module -> moduleIds.put(module.descriptor(), module.moduleId()));
 
-        // Perform core scans
-        StaticCodeAnalyzer analyzer = new StaticCodeAnalyzer(currentDocument,
-                syntaxTree,
-                semanticModel,
-                internalScannerContext);
+        List<ModuleId> sortedModuleIds = new ArrayList<>();
+        currentPackage.moduleDependencyGraph().toTopologicallySortedList().forEach(moduleDescriptor -> {
+            ModuleId moduleId = moduleIds.remove(moduleDescriptor);
+            if (moduleId != null) {
+                sortedModuleIds.add(moduleId);
+            }
+        });
 
-        analyzer.initialize();
+        // Modules missing from the dependency graph are analyzed last in their original order
+        currentPackage.moduleIds().forEach(moduleId -> {
+            if (moduleIds.containsValue(moduleId)) {
+                sortedModuleIds.add(moduleId);
+            }
+        });
+        return sortedModuleIds;
     }
 
-    public List<Issue> runExternalAnalyzers(Project project) {
-        // Get the analyzer plugins as imports & generate them as toml dependencies if version is provided
-        StringBuilder newImports = new StringBuilder();
-        StringBuilder tomlDependencies = new StringBuilder();
-        AtomicInteger importCounter = new AtomicInteger(0);
-        List<String> analyzerDescriptors = new ArrayList<>();
+    private static Document getDocument(Package currentPackage, DocumentId documentId) {
+        return currentPackage.module(documentId.moduleId()).document(documentId);
+    }
 
-        scanTomlFile.getAnalyzers().forEach(analyzer -> {
-            // Generate analyzer as import
-            String analyzerImport = IMPORT_PREFIX + analyzer.getOrg() + PATH_SEPARATOR + analyzer.getName()
-                    + USE_IMPORT_AS_SERVICE;
-            newImports.append(analyzerImport).append("\n");
+    // Only the issues the external analyzers report on the analyzed documents are kept, so that the issues of the
+    // documents out of the analysis scope or in the other shards do not count towards the threshold
+    private boolean isAnalyzedDocument(Document document) {
+        return analyzedDocumentIds.contains(document.documentId());
+    }
 
-            analyzerDescriptors.add(analyzer.getOrg() + PATH_SEPARATOR + analyzer.getName());
+    private boolean isInScope(Project project, DocumentId documentId) {
+        if (documentPaths == null) {
+            return true;
+        }
 
-            // Generate toml dependencies if version provided
-            if (analyzer.getVersion() != null) {
-                tomlDependencies.append("\n");
-                tomlDependencies.append("[[dependency]]" + "\n");
-                tomlDependencies.append("org='" + analyzer.getOrg() + "'\n");
-                tomlDependencies.append("name='" + analyzer.getName() + "'\n");
-                tomlDependencies.append("version='" + analyzer.getVersion() + "'\n");
+        return project.documentPath(documentId)
+                .map(documentPath -> documentPaths.contains(ScanUtils.toRealPath(documentPath)))
+                .orElse(false);
+    }
 
-                if (analyzer.getRepository() != null) {
-                    tomlDependencies.append("repository='" + analyzer.getRepository() + "'\n");
-                }
+    private void analyzeDocuments(Package currentPackage, List<DocumentId> documentIds,
+                                  List<Integer> documentsToAnalyze, IssueEmitter issueEmitter) {
+        // Compile the modules upfront so that the analysis threads only read from the cache, and an abandoned rule
+        // check is never left holding the compiler
+        boolean parallel = threads > 1 && documentsToAnalyze.size() > 1;
+        boolean budgeted = analysisBudget.hasRuleBudget() || analysisBudget.hasDocumentBudget();
+        if ((parallel || budgeted) && ruleDispatcher.requiresSemanticModel()
+                && !compilationCache.isCompilationAbandoned()) {
+            documentsToAnalyze.forEach(index -> {
+                compilationCache.getSemanticModel(currentPackage.module(documentIds.get(index).moduleId()));
+            });
+        }
 
-                tomlDependencies.append("\n");
+        if (parallel) {
+            analyzeDocumentsFromSharedQueue(currentPackage, documentIds, documentsToAnalyze, issueEmitter);
+        } else {
+            documentsToAnalyze.forEach(index -> {
+                analyzeDocument(currentPackage, documentIds.get(index), index, issueEmitter);
+            });
+        }
+    }
+
+    // The worker threads take the next document from a queue shared by all of them as soon as they complete one,
+    // rather than splitting the documents upfront, so a thread left with the small documents never waits on another
+    // thread. Each document is a single unit of work, there are no subtasks to fork or steal. The issues are still
+    // emitted in document order.
+    private void analyzeDocumentsFromSharedQueue(Package currentPackage, List<DocumentId> documentIds,
+                                                 List<Integer> documentsToAnalyze, IssueEmitter issueEmitter) {
+        List<Integer> scheduledDocuments = scheduleLargestFirst(currentPackage, documentIds, documentsToAnalyze);
+        int workerCount = Math.min(threads, scheduledDocuments.size());
+        AtomicInteger nextDocument = new AtomicInteger();
+        long[] busyTimes = new long[workerCount];
+        ExecutorService analysisExecutor = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread analysisThread = new Thread(runnable, "bal-scan-analysis-worker");
+            analysisThread.setDaemon(true);
+            return analysisThread;
+        });
+        long startTime = System.nanoTime();
+        try {
+            List<Future<?>> workers = new ArrayList<>(workerCount);
+            for (int worker = 0; worker < workerCount; worker++) {
+                int workerIndex = worker;
+                workers.add(analysisExecutor.submit(() -> {
+                    int scheduledDocument;
+                    while ((scheduledDocument = nextDocument.getAndIncrement()) < scheduledDocuments.size()) {
+                        int index = scheduledDocuments.get(scheduledDocument);
+                        long analysisStartTime = System.nanoTime();
+                        analyzeDocument(currentPackage, documentIds.get(index), index, issueEmitter);
+                        busyTimes[workerIndex] += System.nanoTime() - analysisStartTime;
+                    }
+                }));
             }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+
+            // A worker idles from taking its last document until the queue is drained by the others, the threads
+            // without a document to analyze idle for the whole batch
+            long elapsedTime = System.nanoTime() - startTime;
+            for (int worker = 0; worker < threads; worker++) {
+                workerIdleTimes[worker] += elapsedTime - (worker < workerCount ? busyTimes[worker] : 0);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        } catch (ExecutionException ex) {
+            throw new RuntimeException(ex.getCause());
+        } finally {
+            analysisExecutor.shutdown();
+        }
+    }
 
-            // Increment the imports counter
-            importCounter.getAndIncrement();
+    // Orders the documents largest first, so that a large document taken from the queue last does not keep a single
+    // thread busy while the others are idle
+    static List<Integer> scheduleLargestFirst(Package currentPackage, List<DocumentId> documentIds,
+                                              List<Integer> documentsToAnalyze) {
+        Map<Integer, Long> documentSizes = new HashMap<>();
+        documentsToAnalyze.forEach(index -> {
+            documentSizes.put(index, documentSize(getDocument(currentPackage, documentIds.get(index))));
         });
+        List<Integer> scheduledDocuments = new ArrayList<>(documentsToAnalyze);
+        scheduledDocuments.sort(Comparator.comparing(documentSizes::get, Comparator.reverseOrder()));
+        return scheduledDocuments;
+    }
 
-        // Creating an in-memory document with the plugin imports
-        Module defaultModule = project.currentPackage().getDefaultModule();
+    private void analyzeDocument(Package currentPackage, DocumentId documentId, int index,
+                                 IssueEmitter issueEmitter) {
+        // Skip the remaining documents once the issue threshold is exceeded, their issues would not be emitted
+        if (issueThreshold.isExceeded()) {
+            issueEmitter.emit(index, new ArrayList<>(), false);
+            return;
+        }
 
-        // Making sure the generated document file name is unique
-        List<String> defaultModuleFiles = defaultModule.documentIds()
-                .stream()
-                .map(documentId -> defaultModule.document(documentId).name())
-                .toList();
-        String documentName;
-        do {
-            documentName = String.format("%s-%s.bal", IMPORT_GENERATOR_FILE, UUID.randomUUID());
-        } while (defaultModuleFiles.contains(documentName));
+        // Only the issues outlive the analysis of the document, they are held in a compact issue store referring to
+        // the tables of the scan
+        IssueStore issues = new IssueStore(issueTables);
+        DocumentAnalysisEvent event = new DocumentAnalysisEvent();
+        event.begin();
+        InternalScannerContext internalScannerContext = new InternalScannerContext(issues,
+                enabledInbuiltRules, compilationCache, ruleDispatcher, analysisBudget, ruleProfiler);
+        Document document = getDocument(currentPackage, documentId);
+        boolean complete = analyzeDocument(document, internalScannerContext);
+        List<Issue> documentIssues = internalScannerContext.isAbandoned() ? new ArrayList<>() : issues;
+        event.end();
+        analyzedLineCount.add(document.textDocument().textLines().size());
+        if (event.shouldCommit()) {
+            event.packageName = currentPackage.packageName().toString();
+            event.moduleName = document.module().moduleName().toString();
+            event.documentName = document.name();
+            event.documentSize = documentSize(document);
+            event.issueCount = documentIssues.size();
+            event.commit();
+        }
+        if (ruleProfiler != null) {
+            documentIssues.forEach(issue -> ruleProfiler.recordIssue(issue.rule().id()));
+        }
+        issueEmitter.emit(index, documentIssues, complete);
+    }
 
-        ModuleId defaultModuleId = defaultModule.moduleId();
-        DocumentId documentId = DocumentId.create(documentName, defaultModuleId);
-        DocumentConfig documentConfig = DocumentConfig.from(documentId, newImports.toString(), documentName);
+    private static long documentSize(Document document) {
+        Optional<Path> documentPath = document.module().project().documentPath(document.documentId());
+        if (documentPath.isPresent()) {
+            try {
+                return Files.size(documentPath.get());
+            } catch (IOException ex) {
+                // Fall back to the size of the loaded document
+            }
+        }
+        return document.syntaxTree().rootNode().textRangeWithMinutiae().length();
+    }
 
-        // Adding the in-memory document to the default module
-        defaultModule.modify().addDocument(documentConfig).apply();
+    // Returns whether all rule checks completed on the document within their time budgets
+    public boolean analyzeDocument(Document currentDocument, InternalScannerContext internalScannerContext) {
+        // Retrieve syntax tree of each document. The trees parsed by the document are held by the project for the
+        // whole scan, so the low memory mode parses a tree of its own which is released once the document is
+        // analyzed. The compiler holds the trees of the documents it compiled for the semantic model or for the
+        // external analyzers, which are reused instead.
+        SyntaxTree syntaxTree = lowMemory && externalAnalyzers.isEmpty()
+                && !internalScannerContext.getRuleDispatcher().requiresSemanticModel()
+                ? SyntaxTree.from(currentDocument.textDocument(), currentDocument.name())
+                : currentDocument.syntaxTree();
+
+        // Perform core scans, the semantic model is only built when a rule check asks for it
+        StaticCodeAnalyzer analyzer = new StaticCodeAnalyzer(currentDocument,
+                syntaxTree,
+                internalScannerContext);
 
-        // Generating dependencies
-        BallerinaToml ballerinaToml = project.currentPackage().ballerinaToml().orElse(null);
-        if (ballerinaToml != null) {
-            String documentContent = ballerinaToml.tomlDocument().textDocument().toString();
-            ballerinaToml.modify().withContent(documentContent + tomlDependencies).apply();
+        AnalysisBudget budget = internalScannerContext.getAnalysisBudget();
+        if (!budget.hasRuleBudget() && !budget.hasDocumentBudget()) {
+            analyzer.initialize();
+            return analyzer.isComplete();
         }
 
-        // Passing scanner contexts to compiler plugins
-        List<ScannerContext> scannerContextList = new ArrayList<>();
-        PackageResolution packageResolution = project.currentPackage().getResolution();
+        // The budgets are only checked between the node checks, so the analysis runs on a watched daemon thread. A
+        // rule check which does not return cannot be stopped, its thread is abandoned after the grace period.
+        Future<?> analysis = BUDGETED_ANALYSIS_EXECUTOR.submit(analyzer::initialize);
+        try {
+            while (true) {
+                try {
+                    analysis.get(WATCH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    return analyzer.isComplete();
+                } catch (TimeoutException ex) {
+                    if (analyzer.abandonIfOverrun(ABANDON_GRACE_PERIOD)) {
+                        internalScannerContext.abandon();
+                        analysisAbandoned = true;
+                        analysis.cancel(true);
+                        return false;
+                    }
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        } catch (ExecutionException ex) {
+            throw new RuntimeException(ex.getCause());
+        }
+    }
 
-        // Get the dependencies generated in the main.bal file
-        ResolvedPackageDependency rootPkgNode = new ResolvedPackageDependency(project.currentPackage(),
-                PackageDependencyScope.DEFAULT);
+    private void compilePackage(Project project) {
+        // The compiler runs the external analyzers on each document, so a single run of an analyzer gets the budget
+        // of a document, or of a rule when only the rule budget is set
+        long runBudget = analysisBudget.hasDocumentBudget()
+                ? analysisBudget.documentBudget()
+                : analysisBudget.ruleBudget();
+        if (runBudget == 0) {
+            compilationCache.compilePackage(project.currentPackage());
+            return;
+        }
 
-        List<Package> directDependencies = packageResolution.dependencyGraph()
-                .getDirectDependencies(rootPkgNode)
-                .stream()
-                .map(ResolvedPackageDependency::packageInstance)
-                .toList();
+        // The abandoned compilation keeps holding the compiler, so the rule checks requiring the semantic model are
+        // skipped from here on as well
+        ExternalAnalysisWatchdog watchdog = new ExternalAnalysisWatchdog(externalAnalyzers, analysisBudget,
+                runBudget, ABANDON_GRACE_PERIOD, project);
+        if (!watchdog.watch(() -> compilationCache.compilePackage(project.currentPackage()))) {
+            compilationCache.abandonCompilation();
+            analysisAbandoned = true;
+        }
+    }
 
-        for (Package pkgDependency : directDependencies) {
-            PackageManifest pkgManifest = pkgDependency.manifest();
-
-            PackageOrg org = pkgManifest.org();
-            PackageName name = pkgManifest.name();
-            String reportedSource = org + PATH_SEPARATOR + name;
-
-            if (analyzerDescriptors.contains(reportedSource)) {
-                // Get the URL of the imported compiler plugin
-                List<String> jarPaths = new ArrayList<>();
-
-                pkgManifest.compilerPluginDescriptor().ifPresent(pluginDesc -> {
-                    // There is only 1 pluginDesc per compiler plugin
-                    pluginDesc.dependencies().forEach(dependency -> {
-                        jarPaths.add(dependency.getPath());
-                    });
-
-                    // Get fully qualified class name of the class implementing the compiler plugin
-                    String fqn = pluginDesc.plugin().getClassName();
-
-                    List<Rule> externalRules = new ArrayList<>();
-
-                    // Create a URLClassLoader
-                    List<URL> jarUrls = new ArrayList<>();
-                    jarPaths.forEach(jarPath -> {
-                        try {
-                            URL jarUrl = Path.of(jarPath).toUri().toURL();
-                            jarUrls.add(jarUrl);
-                        } catch (MalformedURLException ex) {
-                            throw new RuntimeException(ex);
-                        }
-                    });
-                    URLClassLoader ucl = new URLClassLoader(jarUrls.toArray(new URL[0]),
-                            this.getClass().getClassLoader());
-
-                    // Obtain rules if present
-                    InputStream resourceAsStream = ucl.getResourceAsStream(RULES_FILE);
-
-                    if (resourceAsStream != null) {
-                        // Parse the rules
-                        StringBuilder stringBuilder = new StringBuilder();
-                        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resourceAsStream,
-                                StandardCharsets.UTF_8))) {
-                            String line;
-                            while ((line = reader.readLine()) != null) {
-                                stringBuilder.append(line);
-                            }
-                        } catch (IOException e) {
-                            throw new RuntimeException(e);
-                        }
-                        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-                        JsonArray ruleArray = gson.fromJson(stringBuilder.toString(), JsonArray.class);
-
-                        // Generate in memory rules
-                        ruleArray.forEach(rule -> {
-                            JsonObject ruleObject = rule.getAsJsonObject();
-                            int numericId = ruleObject.get("id").getAsInt();
-                            Severity severity = switch (ruleObject.get("severity").getAsString()) {
-                                case "BUG" -> Severity.BUG;
-                                case "VULNERABILITY" -> Severity.VULNERABILITY;
-                                case "CODE_SMELL" -> Severity.CODE_SMELL;
-                                default -> null;
-                            };
-                            String description = ruleObject.get("description").getAsString();
-
-                            // Create in memory rule objects
-                            if (severity != null) {
-                                Rule inMemoryRule = RuleFactory.createRule(numericId, description, severity,
-                                        org.value(), name.value());
-                                externalRules.add(inMemoryRule);
-                            }
-                        });
-                    }
+    public void engageExternalAnalyzers(Project project) {
+        // Nothing to engage when there are no analyzers defined in Scan.toml
+        if (scanTomlFile.getAnalyzers().isEmpty()) {
+            return;
+        }
 
-                    // Create and add scanner context to static analysis compiler plugins
-                    ScannerContext context = new ScannerContextIml(externalRules);
-                    scannerContextList.add(context);
+        scanTomlFile.getAnalyzers().forEach(analyzer -> {
+            engagedAnalyzers.add(analyzer.getOrg() + PATH_SEPARATOR + analyzer.getName());
+        });
+        importGeneratorDocumentId = addAnalyzerImports(project);
 
-                    Map<String, Object> pluginProperties = new HashMap<>();
-                    pluginProperties.put("ScannerContext", context);
+        // Passing scanner contexts to compiler plugins
+        for (PackageManifest pkgManifest : getAnalyzerManifests(project)) {
+            String reportedSource = pkgManifest.org() + PATH_SEPARATOR + pkgManifest.name();
+
+            // Get fully qualified class name of the class implementing the compiler plugin
+            String fqn = pkgManifest.compilerPluginDescriptor().orElseThrow().plugin().getClassName();
+            List<Rule> externalRules = loadExternalRules(pkgManifest);
+
+            // Create and add scanner context to static analysis compiler plugins, each analyzer is cancelled on its
+            // own
+            AtomicBoolean cancelled = new AtomicBoolean();
+            ScannerContextIml context = new ScannerContextIml(externalRules, ruleFilter.enabledRules(externalRules),
+                    issueThreshold, cancelled, syntaxNodeIndexCache, issueTables, this::isAnalyzedDocument);
+            externalAnalyzers.add(new ExternalAnalyzer(reportedSource, fqn, cancelled, context));
+
+            Map<String, Object> pluginProperties = new HashMap<>();
+            pluginProperties.put("ScannerContext", context);
+
+            project.projectEnvironmentContext()
+                    .getService(CompilerPluginCache.class)
+                    .putData(fqn, pluginProperties);
+        }
 
-                    project.projectEnvironmentContext()
-                            .getService(CompilerPluginCache.class)
-                            .putData(fqn, pluginProperties);
-                });
+        // The compiler plugins are engaged through the package compilation performed in analyzeProject
+    }
+
+    public void reportExternalIssues(IssueSink issueSink) {
+        // The reporters only kept the issues of the analyzed documents, which were counted towards the threshold
+        // as they were reported. The time of external rules is only known for the whole compilation, so only their
+        // issues and documents are profiled.
+        Map<String, Set<String>> ruleDocuments = new HashMap<>();
+        externalAnalyzers.forEach(externalAnalyzer -> {
+            // The results of cancelled external analyzers are incomplete
+            if (externalAnalyzer.isCancelled()) {
+                return;
             }
-        }
 
-        // Engage custom compiler plugins through package compilation
-        project.currentPackage().getCompilation();
+            ReporterIml reporter = (ReporterIml) externalAnalyzer.scannerContext().getReporter();
+            reporter.getIssues().forEach(issue -> {
+                if (ruleProfiler != null) {
+                    ruleProfiler.recordIssue(issue.rule().id());
+                    if (ruleDocuments.computeIfAbsent(issue.rule().id(), ruleId -> new HashSet<>())
+                            .add(((IssueIml) issue).filePath())) {
+                        ruleProfiler.recordDocument(issue.rule().id(), 0, 0);
+                    }
+                }
+                issueSink.accept(issue);
+            });
 
-        // Filter main bal file issues and remove imported compiler plugin lines from issues
-        List<Issue> externalIssues = new ArrayList<>();
-        scannerContextList.forEach(scannerContext -> {
-            ReporterIml reporter = (ReporterIml) scannerContext.getReporter();
-            externalIssues.addAll(reporter.getIssues());
+            // The reported issues are no longer required once they are passed to the sink
+            reporter.getIssues().clear();
         });
+    }
+
+    // Passes the issues of each document to the sink in document order as soon as the preceding documents are
+    // analyzed, so that only the issues of documents completed out of order are held in memory. The issues count
+    // towards the threshold in the same order, so the documents reported before the threshold is exceeded do not
+    // depend on the order the threads complete them.
+    private static class IssueEmitter {
+
+        private final Project project;
+        private final List<DocumentId> documentIds;
+        private final List<List<Issue>> documentIssues;
+        private final ScanCache scanCache;
+        private final IssueThreshold issueThreshold;
+        private final IssueSink issueSink;
+        private final List<String> cacheKeys = new ArrayList<>();
+        private final BitSet incompleteDocuments = new BitSet();
+        private int nextDocument = 0;
+
+        IssueEmitter(Project project, List<DocumentId> documentIds, List<List<Issue>> documentIssues,
+                     ScanCache scanCache, IssueThreshold issueThreshold, IssueSink issueSink) {
+            this.project = project;
+            this.documentIds = documentIds;
+            this.documentIssues = documentIssues;
+            this.scanCache = scanCache;
+            this.issueThreshold = issueThreshold;
+            this.issueSink = issueSink;
+        }
+
+        synchronized void emit(int index, List<Issue> issues, boolean complete) {
+            documentIssues.set(index, issues);
+            if (!complete) {
+                incompleteDocuments.set(index);
+            }
+            while (nextDocument < documentIssues.size() && documentIssues.get(nextDocument) != null) {
+                List<Issue> completedIssues = documentIssues.get(nextDocument);
+
+                // The documents following the one exceeding the threshold are dropped from the partial results
+                if (issueThreshold.isExceeded()) {
+                    incompleteDocuments.set(nextDocument);
+                    completedIssues = List.of();
+                } else if (issueThreshold.isEnabled()) {
+                    completedIssues.forEach(issue -> issueThreshold.record(issue.rule().severity()));
+                }
+
+                // Update the cache with the results of the document, skipped analyses are retried on the next scan
+                if (scanCache != null && !incompleteDocuments.get(nextDocument)) {
+                    scanCache.putIssues(getDocument(project.currentPackage(), documentIds.get(nextDocument)),
+                            cacheKeys.get(nextDocument), completedIssues);
+                }
+                completedIssues.forEach(issueSink::accept);
 
-        return externalIssues;
+                // Release the issues of the emitted document
+                documentIssues.set(nextDocument, List.of());
+                nextDocument++;
+            }
+        }
     }
 }
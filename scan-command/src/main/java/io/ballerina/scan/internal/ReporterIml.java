@@ -19,18 +19,18 @@
 package io.ballerina.scan.internal;
 
 import io.ballerina.projects.Document;
-import io.ballerina.projects.Module;
 import io.ballerina.scan.Issue;
 import io.ballerina.scan.Reporter;
 import io.ballerina.scan.Rule;
 import io.ballerina.scan.Source;
 import io.ballerina.tools.diagnostics.Location;
 
-import java.nio.file.Path;
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 import static io.ballerina.projects.util.ProjectConstants.BALLERINA_ORG;
@@ -39,22 +39,40 @@ import static io.ballerina.scan.internal.ScanToolConstants.PATH_SEPARATOR;
 
 public class ReporterIml implements Reporter {
 
-    private final List<Issue> issues = new ArrayList<>();
+    private final IssueStore issues;
     private final Map<Integer, Rule> rules = new HashMap<>();
+    private final BitSet enabledRules;
+    private final IssueThreshold issueThreshold;
+    private final AtomicBoolean cancelled;
+    private final Predicate<Document> analyzedDocuments;
 
-    ReporterIml(List<Rule> rules) {
+    ReporterIml(List<Rule> rules, BitSet enabledRules, IssueThreshold issueThreshold) {
+        this(rules, enabledRules, issueThreshold, new AtomicBoolean(), new IssueTables(), document -> true);
+    }
+
+    // The issues reported on the analyzed documents count towards the threshold as they are reported, so that the
+    // analyzers checking the enabled rules stop once it is exceeded. The issues of the other documents are dropped.
+    ReporterIml(List<Rule> rules, BitSet enabledRules, IssueThreshold issueThreshold, AtomicBoolean cancelled,
+                IssueTables issueTables, Predicate<Document> analyzedDocuments) {
+        this.issues = new IssueStore(issueTables);
         rules.forEach(rule -> {
             this.rules.put(rule.numericId(), rule);
         });
+        this.enabledRules = enabledRules;
+        this.issueThreshold = issueThreshold;
+        this.cancelled = cancelled;
+        this.analyzedDocuments = analyzedDocuments;
     }
 
     @Override
-    public void reportIssue(Document reportedDocument, Location location, int ruleId) {
-        String documentName = reportedDocument.name();
-        Module module = reportedDocument.module();
-        String moduleName = module.moduleName().toString();
-        Path issuesFilePath = module.project().documentPath(reportedDocument.documentId())
-                .orElse(Path.of(documentName));
+    public synchronized void reportIssue(Document reportedDocument, Location location, int ruleId) {
+        ScannerContextIml.checkCancelled(cancelled);
+
+        // Drop issues of disabled rules reported by analyzers which do not check the enabled rules, the issues
+        // reported after the issue threshold is exceeded and the issues of documents which are not analyzed
+        if (!isRuleEnabled(ruleId) || issueThreshold.isExceeded() || !analyzedDocuments.test(reportedDocument)) {
+            return;
+        }
 
         Rule rule = rules.get(ruleId);
         if (rule == null) {
@@ -72,18 +90,18 @@ public class ReporterIml implements Reporter {
             source = pluginOrg.equals(BALLERINA_ORG) ? Source.BUILT_IN : Source.EXTERNAL;
         }
 
-        Issue issue = new IssueIml(location, rule, source,
-                moduleName + PATH_SEPARATOR + documentName, issuesFilePath.toString());
-        issues.add(issue);
+        issues.add(reportedDocument, location, rule, source);
+        issueThreshold.record(rule.severity());
     }
 
     @Override
     public synchronized void reportIssue(Document reportedDocument, Location location, Rule rule) {
-        // generate issue reported location information
-        String documentName = reportedDocument.name();
-        String moduleName = reportedDocument.module().moduleName().toString();
-        Path issuesFilePath = reportedDocument.module().project().documentPath(reportedDocument.documentId())
-                .orElse(Path.of(documentName));
+        ScannerContextIml.checkCancelled(cancelled);
+
+        if (!isRuleEnabled(rule.numericId()) || issueThreshold.isExceeded()
+                || !analyzedDocuments.test(reportedDocument)) {
+            return;
+        }
 
         // Split the fully qualified id to its source and prefixed ID
         // i.e: org/name:B109
@@ -95,14 +113,14 @@ public class ReporterIml implements Reporter {
         String pluginOrg = reportedSource.split(Pattern.quote(System.getProperty("file.separator")))[0];
         Source source = pluginOrg.equals(BALLERINA_ORG) ? Source.BUILT_IN : Source.EXTERNAL;
 
-        // Construct the issue reported compiler plugin source
-
-        // Create a new Issue
-        Issue issue = new IssueIml(location, rule, source,
-                moduleName + ScanToolConstants.PATH_SEPARATOR + documentName, issuesFilePath.toString());
+        // Add the issue reported with the information, the issue store resolves the file name and path of the
+        // document once per document
+        issues.add(reportedDocument, location, rule, source);
+        issueThreshold.record(rule.severity());
+    }
 
-        // Add the issue reported with the information
-        issues.add(issue);
+    private boolean isRuleEnabled(int ruleId) {
+        return ruleId >= 0 && enabledRules.get(ruleId);
     }
 
     List<Issue> getIssues() {
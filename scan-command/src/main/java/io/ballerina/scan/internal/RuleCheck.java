@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+
+import java.util.List;
+
+public interface RuleCheck {
+
+    // Numeric ID of the inbuilt rule reported by the check
+    int numericId();
+
+    // Kinds of the syntax nodes the check should be invoked for
+    List<SyntaxKind> syntaxKinds();
+
+    // Whether the check uses the semantic model, purely syntactic checks never trigger a compilation
+    boolean requiresSemanticModel();
+
+    void check(Node node, RuleContext ruleContext);
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Document;
+import io.ballerina.tools.diagnostics.Location;
+
+import java.util.List;
+import java.util.Optional;
+
+public class RuleContext {
+
+    private final Document document;
+    private final SyntaxTree syntaxTree;
+    private final CompilationCache compilationCache;
+    private final InternalReporter reporter;
+    private SyntaxNodeIndexIml syntaxNodeIndex = null;
+    private final RuleProfiler ruleProfiler;
+    private final SymbolLookupCache.LookupRecorder lookupRecorder = this::recordLookup;
+    private SymbolLookupCache symbolLookupCache = null;
+    private int currentRule;
+
+    RuleContext(Document document, SyntaxTree syntaxTree, CompilationCache compilationCache,
+                InternalReporter reporter, RuleProfiler ruleProfiler) {
+        this.document = document;
+        this.syntaxTree = syntaxTree;
+        this.compilationCache = compilationCache;
+        this.reporter = reporter;
+        this.ruleProfiler = ruleProfiler;
+    }
+
+    // Numeric ID of the rule check currently using the context, the symbol lookups are profiled against it
+    void setCurrentRule(int numericId) {
+        this.currentRule = numericId;
+    }
+
+    Document document() {
+        return document;
+    }
+
+    // The module is compiled on the first access to its semantic model
+    SemanticModel semanticModel() {
+        return compilationCache.getSemanticModel(document.module());
+    }
+
+    // The symbol lookups are memoized for the module, prefer them over looking up the semantic model directly
+    Optional<Symbol> symbol(Node node) {
+        return symbolLookupCache().symbol(document.documentId(), node, lookupRecorder);
+    }
+
+    Optional<TypeSymbol> typeOf(Node node) {
+        return symbolLookupCache().typeOf(document.documentId(), node, lookupRecorder);
+    }
+
+    List<Location> references(Node node) {
+        return symbolLookupCache().references(document.documentId(), node, lookupRecorder);
+    }
+
+    // The lookups of the module are resolved once for the document, the later lookups do not take the compiler lock
+    private SymbolLookupCache symbolLookupCache() {
+        if (symbolLookupCache == null) {
+            symbolLookupCache = compilationCache.getSymbolLookupCache(document.module());
+        }
+        return symbolLookupCache;
+    }
+
+    private void recordLookup(boolean hit) {
+        if (ruleProfiler != null) {
+            ruleProfiler.recordSymbolLookup(InbuiltRules.ruleId(currentRule), hit);
+        }
+    }
+
+    // All nodes of the given kind in the document, the document is indexed on the first call of a rule check
+    List<Node> syntaxNodes(SyntaxKind syntaxKind) {
+        if (syntaxNodeIndex == null) {
+            syntaxNodeIndex = new SyntaxNodeIndexIml(syntaxTree);
+        }
+        return syntaxNodeIndex.nodes(syntaxKind);
+    }
+
+    void reportIssue(Location location, int ruleId) {
+        reporter.reportIssue(document, location, ruleId);
+    }
+}
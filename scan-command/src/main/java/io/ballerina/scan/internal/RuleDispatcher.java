@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RuleDispatcher {
+
+    private static final RuleCheck[] NO_RULE_CHECKS = new RuleCheck[0];
+
+    // Rule checks indexed by the ordinal of the syntax kind they are registered for
+    private final RuleCheck[][] ruleChecksByKind;
+    private final boolean requiresSemanticModel;
+
+    RuleDispatcher(List<RuleCheck> ruleChecks) {
+        SyntaxKind[] syntaxKinds = SyntaxKind.values();
+        List<List<RuleCheck>> registeredChecks = new ArrayList<>(syntaxKinds.length);
+        for (int i = 0; i < syntaxKinds.length; i++) {
+            registeredChecks.add(new ArrayList<>());
+        }
+        ruleChecks.forEach(ruleCheck -> {
+            ruleCheck.syntaxKinds().forEach(syntaxKind -> {
+                registeredChecks.get(syntaxKind.ordinal()).add(ruleCheck);
+            });
+        });
+
+        ruleChecksByKind = new RuleCheck[syntaxKinds.length][];
+        for (int i = 0; i < syntaxKinds.length; i++) {
+            List<RuleCheck> checks = registeredChecks.get(i);
+            ruleChecksByKind[i] = checks.isEmpty() ? NO_RULE_CHECKS : checks.toArray(new RuleCheck[0]);
+        }
+        requiresSemanticModel = ruleChecks.stream().anyMatch(RuleCheck::requiresSemanticModel);
+    }
+
+    RuleCheck[] ruleChecks(SyntaxKind syntaxKind) {
+        return ruleChecksByKind[syntaxKind.ordinal()];
+    }
+
+    boolean requiresSemanticModel() {
+        return requiresSemanticModel;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.scan.Rule;
+import io.ballerina.scan.utilities.ScanTomlFile;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Rules to include and exclude from Scan.toml and the command line, resolved before the analysis starts
+public class RuleFilter {
+
+    private final RuleSelector rulesToInclude;
+    private final RuleSelector rulesToExclude;
+
+    // The selectors are evaluated once per rule, which keeps the cost independent of the number of selectors
+    private final Map<String, Boolean> enabledRuleIds = new HashMap<>();
+
+    RuleFilter(RuleSelector rulesToInclude, RuleSelector rulesToExclude) {
+        this.rulesToInclude = rulesToInclude;
+        this.rulesToExclude = rulesToExclude;
+    }
+
+    static RuleFilter from(ScanTomlFile scanTomlFile, List<String> includeRules, List<String> excludeRules) {
+        // Get all rules to include from Scan.toml file and add console defined rules to include
+        List<String> rulesToInclude = new ArrayList<>(includeRules);
+        scanTomlFile.getRulesToInclude().forEach(rule -> rulesToInclude.add(rule.getId()));
+
+        // Get all rules to exclude from Scan.toml file and add console defined rules to exclude
+        List<String> rulesToExclude = new ArrayList<>(excludeRules);
+        scanTomlFile.getRulesToExclude().forEach(rule -> rulesToExclude.add(rule.getId()));
+
+        return new RuleFilter(new RuleSelector(rulesToInclude), new RuleSelector(rulesToExclude));
+    }
+
+    synchronized boolean isEnabled(Rule rule) {
+        return enabledRuleIds.computeIfAbsent(rule.id(), ruleId ->
+                (rulesToInclude.isEmpty() || rulesToInclude.matches(rule)) && !rulesToExclude.matches(rule));
+    }
+
+    // Bitmap of the enabled rules indexed by their numeric IDs
+    BitSet enabledRules(List<Rule> rules) {
+        BitSet enabledRules = new BitSet();
+        rules.forEach(rule -> {
+            if (rule.numericId() >= 0 && isEnabled(rule)) {
+                enabledRules.set(rule.numericId());
+            }
+        });
+        return enabledRules;
+    }
+}
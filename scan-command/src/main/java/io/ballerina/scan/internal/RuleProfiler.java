@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Collects the time, visited nodes, processed documents and reported issues of each rule during a scan
+public class RuleProfiler {
+
+    private final Map<String, RuleStats> ruleStats = new ConcurrentHashMap<>();
+
+    // Records the analysis of a single document by a rule, with the elapsed time in nanoseconds
+    void recordDocument(String ruleId, long elapsedTime, long visitedNodes) {
+        RuleStats stats = stats(ruleId);
+        stats.elapsedTime.add(elapsedTime);
+        stats.visitedNodes.add(visitedNodes);
+        stats.documents.increment();
+    }
+
+    // Records time spent on rules which cannot be measured individually, such as the external analyzers
+    void recordElapsedTime(String ruleId, long elapsedTime) {
+        stats(ruleId).elapsedTime.add(elapsedTime);
+    }
+
+    void recordIssue(String ruleId) {
+        stats(ruleId).issues.increment();
+    }
+
+    // Records a lookup through the shared symbol lookup cache, which is a hit when another lookup resolved it before
+    void recordSymbolLookup(String ruleId, boolean hit) {
+        RuleStats stats = stats(ruleId);
+        if (hit) {
+            stats.symbolLookupHits.increment();
+        } else {
+            stats.symbolLookupMisses.increment();
+        }
+    }
+
+    private RuleStats stats(String ruleId) {
+        return ruleStats.computeIfAbsent(ruleId, id -> new RuleStats());
+    }
+
+    // Returns the profiles of the rules ranked by their elapsed time
+    public List<RuleProfile> rankedProfiles() {
+        List<RuleProfile> profiles = new ArrayList<>();
+        ruleStats.forEach((ruleId, stats) -> profiles.add(new RuleProfile(ruleId,
+                TimeUnit.NANOSECONDS.toMillis(stats.elapsedTime.sum()), stats.visitedNodes.sum(),
+                stats.documents.sum(), stats.issues.sum(), stats.symbolLookupHits.sum(),
+                stats.symbolLookupMisses.sum())));
+        profiles.sort(Comparator.comparingLong(RuleProfile::elapsedTime).reversed()
+                .thenComparing(RuleProfile::ruleId));
+        return profiles;
+    }
+
+    private static class RuleStats {
+
+        private final LongAdder elapsedTime = new LongAdder();
+        private final LongAdder visitedNodes = new LongAdder();
+        private final LongAdder documents = new LongAdder();
+        private final LongAdder issues = new LongAdder();
+        private final LongAdder symbolLookupHits = new LongAdder();
+        private final LongAdder symbolLookupMisses = new LongAdder();
+    }
+
+    public static class RuleProfile {
+
+        private final String ruleId;
+        private final long elapsedTime;
+        private final long visitedNodes;
+        private final long documents;
+        private final long issues;
+        private final long symbolLookupHits;
+        private final long symbolLookupMisses;
+
+        RuleProfile(String ruleId, long elapsedTime, long visitedNodes, long documents, long issues,
+                    long symbolLookupHits, long symbolLookupMisses) {
+            this.ruleId = ruleId;
+            this.elapsedTime = elapsedTime;
+            this.visitedNodes = visitedNodes;
+            this.documents = documents;
+            this.issues = issues;
+            this.symbolLookupHits = symbolLookupHits;
+            this.symbolLookupMisses = symbolLookupMisses;
+        }
+
+        public String ruleId() {
+            return ruleId;
+        }
+
+        // Elapsed time in milliseconds
+        public long elapsedTime() {
+            return elapsedTime;
+        }
+
+        public long visitedNodes() {
+            return visitedNodes;
+        }
+
+        public long documents() {
+            return documents;
+        }
+
+        public long issues() {
+            return issues;
+        }
+
+        public long symbolLookupHits() {
+            return symbolLookupHits;
+        }
+
+        public long symbolLookupMisses() {
+            return symbolLookupMisses;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.scan.Rule;
+import io.ballerina.scan.Severity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Rule selectors compiled into a single matcher, selectors can be exact rule IDs such as 'ballerina/io:B107',
+// globs over rule IDs such as 'ballerina/*:*' or severity comparisons such as 'severity>=BUG'. A rule matches when
+// it matches any of the selectors, selectors joined with '&' such as 'ballerina/*:*&severity>=BUG' only match the
+// rules matching all of them.
+public class RuleSelector {
+
+    private static final String SEVERITY_SELECTOR_PREFIX = "severity";
+    private static final String CONJUNCTION_SEPARATOR = "&";
+    private static final Pattern SEVERITY_SELECTOR = Pattern.compile(
+            "severity\\s*(>=|<=|!=|=|>|<)\\s*([A-Za-z_]+)");
+
+    private final Set<String> ruleIds = new HashSet<>();
+    private final Set<Severity> severities = EnumSet.noneOf(Severity.class);
+    private final Pattern ruleIdPattern;
+    private final List<List<RuleSelector>> conjunctions = new ArrayList<>();
+
+    RuleSelector(Collection<String> selectors) {
+        List<String> ruleIdGlobs = new ArrayList<>();
+        for (String selector : selectors) {
+            String trimmedSelector = selector.trim();
+            if (trimmedSelector.isEmpty()) {
+                continue;
+            }
+
+            if (trimmedSelector.contains(CONJUNCTION_SEPARATOR)) {
+                addConjunction(trimmedSelector);
+            } else if (trimmedSelector.startsWith(SEVERITY_SELECTOR_PREFIX)) {
+                addSeveritySelector(trimmedSelector);
+            } else if (trimmedSelector.indexOf('*') >= 0 || trimmedSelector.indexOf('?') >= 0) {
+                ruleIdGlobs.add(toRegex(trimmedSelector));
+            } else {
+                ruleIds.add(trimmedSelector);
+            }
+        }
+
+        // All globs are matched through a single pattern
+        ruleIdPattern = ruleIdGlobs.isEmpty() ? null : Pattern.compile(String.join("|", ruleIdGlobs));
+    }
+
+    boolean isEmpty() {
+        return ruleIds.isEmpty() && severities.isEmpty() && ruleIdPattern == null && conjunctions.isEmpty();
+    }
+
+    boolean matches(Rule rule) {
+        if (ruleIds.contains(rule.id()) || severities.contains(rule.severity())
+                || (ruleIdPattern != null && ruleIdPattern.matcher(rule.id()).matches())) {
+            return true;
+        }
+
+        for (List<RuleSelector> conjunction : conjunctions) {
+            if (conjunction.stream().allMatch(selector -> selector.matches(rule))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addConjunction(String selector) {
+        List<RuleSelector> conjunction = new ArrayList<>();
+        for (String term : selector.split(CONJUNCTION_SEPARATOR, -1)) {
+            if (term.isBlank()) {
+                throw new IllegalArgumentException("Invalid rule selector '" + selector + "'. Each selector joined "
+                        + "with '&' should be a rule ID, a glob or a severity selector.");
+            }
+            conjunction.add(new RuleSelector(List.of(term)));
+        }
+        conjunctions.add(conjunction);
+    }
+
+    private void addSeveritySelector(String selector) {
+        Matcher matcher = SEVERITY_SELECTOR.matcher(selector);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid rule selector '" + selector + "'. Severity selectors "
+                    + "should be in the form 'severity>=BUG'.");
+        }
+
+        Severity severity;
+        try {
+            severity = Severity.valueOf(matcher.group(2).toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid severity '" + matcher.group(2) + "' in the rule selector '"
+                    + selector + "'.");
+        }
+
+        // Severities are ordered from CODE_SMELL to VULNERABILITY
+        for (Severity candidate : Severity.values()) {
+            int comparison = candidate.compareTo(severity);
+            boolean selected = switch (matcher.group(1)) {
+                case ">=" -> comparison >= 0;
+                case "<=" -> comparison <= 0;
+                case ">" -> comparison > 0;
+                case "<" -> comparison < 0;
+                case "!=" -> comparison != 0;
+                default -> comparison == 0;
+            };
+            if (selected) {
+                severities.add(candidate);
+            }
+        }
+    }
+
+    private static String toRegex(String glob) {
+        StringBuilder regex = new StringBuilder("(?:");
+        StringBuilder literal = new StringBuilder();
+        for (char character : glob.toCharArray()) {
+            if (character == '*' || character == '?') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(character == '*' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return regex.append(")").toString();
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleDependency;
+import io.ballerina.projects.ModuleDescriptor;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.scan.Issue;
+import io.ballerina.scan.Rule;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.scan.internal.ScanToolConstants.PATH_SEPARATOR;
+import static io.ballerina.scan.internal.ScanToolConstants.SCAN_CACHE_FILE;
+import static io.ballerina.scan.internal.ScanToolConstants.SCAN_TOOL_VERSION;
+
+public class ScanCache {
+
+    private static final Type CACHE_ENTRIES_TYPE = new TypeToken<HashMap<String, CacheEntry>>() {
+    }.getType();
+
+    private final Path cacheFilePath;
+    private final Project project;
+    private final String rulesFingerprint;
+    private final boolean semanticAnalysis;
+    private final Map<String, CacheEntry> previousEntries;
+    private final Map<String, CacheEntry> currentEntries = new HashMap<>();
+    private final Map<ModuleId, String> moduleFingerprints = new HashMap<>();
+
+    // The package is looked up from the project, as the low memory mode replaces it during the scan
+    private ScanCache(Path cacheFilePath, Project project, String rulesFingerprint, boolean semanticAnalysis,
+                      Map<String, CacheEntry> previousEntries) {
+        this.cacheFilePath = cacheFilePath;
+        this.project = project;
+        this.rulesFingerprint = rulesFingerprint;
+        this.semanticAnalysis = semanticAnalysis;
+        this.previousEntries = previousEntries;
+    }
+
+    // The cache is kept in the report directory of the scan, next to the results it reproduces
+    static ScanCache load(Project project, Path reportDirectory, List<Rule> enabledRules, boolean semanticAnalysis) {
+        Path cacheFilePath = reportDirectory.resolve(SCAN_CACHE_FILE);
+
+        // The cache is invalidated as a whole when the enabled rules or the tool version changes
+        List<String> ruleIds = new ArrayList<>();
+        enabledRules.forEach(rule -> ruleIds.add(rule.id()));
+        ruleIds.sort(String::compareTo);
+        String rulesFingerprint = hash(SCAN_TOOL_VERSION + "\n" + String.join(",", ruleIds) + "\n" + semanticAnalysis);
+
+        Map<String, CacheEntry> previousEntries = null;
+        if (Files.exists(cacheFilePath)) {
+            try {
+                previousEntries = new Gson().fromJson(Files.readString(cacheFilePath, StandardCharsets.UTF_8),
+                        CACHE_ENTRIES_TYPE);
+            } catch (IOException | RuntimeException ex) {
+                // A corrupted cache only results in a full scan
+                previousEntries = null;
+            }
+        }
+
+        return new ScanCache(cacheFilePath, project, rulesFingerprint, semanticAnalysis,
+                previousEntries != null ? previousEntries : new HashMap<>());
+    }
+
+    String cacheKey(Document document) {
+        String documentContent = document.textDocument().toString();
+
+        // Results of purely syntactic rule checks only depend on the document itself
+        if (!semanticAnalysis) {
+            return hash(rulesFingerprint + "\n" + documentContent);
+        }
+        return hash(rulesFingerprint + "\n" + moduleFingerprint(document.module()) + "\n" + documentContent);
+    }
+
+    List<Issue> getIssues(Document document, String cacheKey) {
+        CacheEntry cacheEntry = previousEntries.get(entryName(document));
+        if (cacheEntry == null || !cacheKey.equals(cacheEntry.key) || cacheEntry.issues == null) {
+            return null;
+        }
+        return new ArrayList<>(cacheEntry.issues);
+    }
+
+    void putIssues(Document document, String cacheKey, List<Issue> issues) {
+        List<IssueIml> cachedIssues = new ArrayList<>(issues.size());
+        issues.forEach(issue -> cachedIssues.add((IssueIml) issue));
+        currentEntries.put(entryName(document), new CacheEntry(cacheKey, cachedIssues));
+    }
+
+    // Keeps the previous results of a document which is not analyzed in the current scan
+    void retainIssues(Document document) {
+        String entryName = entryName(document);
+        CacheEntry cacheEntry = previousEntries.get(entryName);
+        if (cacheEntry != null) {
+            currentEntries.put(entryName, cacheEntry);
+        }
+    }
+
+    void save() {
+        try {
+            Files.createDirectories(cacheFilePath.getParent());
+            Files.writeString(cacheFilePath, new Gson().toJson(currentEntries, CACHE_ENTRIES_TYPE),
+                    StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private static String entryName(Document document) {
+        Module module = document.module();
+        return module.project().documentPath(document.documentId())
+                .map(Path::toString)
+                .orElse(module.moduleName().toString() + PATH_SEPARATOR + document.name());
+    }
+
+    // Semantic information of a document depends on every document of its module and the modules it imports
+    private String moduleFingerprint(Module module) {
+        String moduleFingerprint = moduleFingerprints.get(module.moduleId());
+        if (moduleFingerprint != null) {
+            return moduleFingerprint;
+        }
+
+        // Guard against cyclic lookups while the fingerprint is being computed
+        moduleFingerprints.put(module.moduleId(), "");
+
+        StringBuilder fingerprintContent = new StringBuilder();
+        List<String> documentContents = new ArrayList<>();
+        module.documentIds().forEach(documentId -> {
+            Document document = module.document(documentId);
+            documentContents.add(document.name() + "\n" + document.textDocument().toString());
+        });
+        documentContents.sort(String::compareTo);
+        documentContents.forEach(documentContent -> fingerprintContent.append(documentContent).append("\n"));
+
+        List<String> dependencyFingerprints = new ArrayList<>();
+        Set<String> visitedDependencies = new HashSet<>();
+        for (ModuleDependency moduleDependency : module.moduleDependencies()) {
+            ModuleDescriptor descriptor = moduleDependency.descriptor();
+            String dependencyName = descriptor.org() + PATH_SEPARATOR + descriptor.packageName() + ":"
+                    + descriptor.version() + PATH_SEPARATOR + descriptor.name();
+            if (!visitedDependencies.add(dependencyName)) {
+                continue;
+            }
+
+            // Modules of the same package can change without a version change
+            Module localModule = findLocalModule(descriptor);
+            if (localModule != null) {
+                dependencyName = dependencyName + "@" + moduleFingerprint(localModule);
+            }
+            dependencyFingerprints.add(dependencyName);
+        }
+        dependencyFingerprints.sort(String::compareTo);
+        dependencyFingerprints.forEach(dependency -> fingerprintContent.append(dependency).append("\n"));
+
+        moduleFingerprint = hash(fingerprintContent.toString());
+        moduleFingerprints.put(module.moduleId(), moduleFingerprint);
+        return moduleFingerprint;
+    }
+
+    private Module findLocalModule(ModuleDescriptor descriptor) {
+        Package currentPackage = project.currentPackage();
+        if (!descriptor.org().toString().equals(currentPackage.packageOrg().toString())
+                || !descriptor.packageName().toString().equals(currentPackage.packageName().toString())) {
+            return null;
+        }
+
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            Module module = currentPackage.module(moduleId);
+            if (module.moduleName().toString().equals(descriptor.name().toString())) {
+                return module;
+            }
+        }
+        return null;
+    }
+
+    private static String hash(String content) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hexString = new StringBuilder();
+            for (byte digestByte : digest) {
+                hexString.append(String.format("%02x", digestByte));
+            }
+            return hexString.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private static class CacheEntry {
+
+        private final String key;
+        private final List<IssueIml> issues;
+
+        CacheEntry(String key, List<IssueIml> issues) {
+            this.key = key;
+            this.issues = issues;
+        }
+    }
+}
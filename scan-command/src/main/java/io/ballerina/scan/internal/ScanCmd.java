@@ -18,6 +18,9 @@
 
 package io.ballerina.scan.internal;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
 import io.ballerina.cli.BLauncherCmd;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
@@ -25,9 +28,10 @@ import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.directory.SingleFileProject;
 import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectUtils;
-import io.ballerina.scan.Issue;
+import io.ballerina.scan.IssueSink;
 import io.ballerina.scan.PlatformPluginContext;
 import io.ballerina.scan.Rule;
+import io.ballerina.scan.Severity;
 import io.ballerina.scan.StaticCodeAnalysisPlatformPlugin;
 import io.ballerina.scan.utilities.ScanTomlFile;
 import io.ballerina.scan.utilities.ScanUtils;
@@ -39,28 +43,37 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.PrintStream;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import static io.ballerina.scan.internal.ScanToolConstants.ISSUE_THRESHOLD_EXCEEDED_EXIT_CODE;
 import static io.ballerina.scan.internal.ScanToolConstants.SCAN_COMMAND;
+import static io.ballerina.scan.internal.ScanToolConstants.SCAN_FAILED_EXIT_CODE;
 
 @CommandLine.Command(name = SCAN_COMMAND, description = "Perform static code analysis for ballerina packages")
 public class ScanCmd implements BLauncherCmd {
 
     private final PrintStream outputStream;
 
+    private final ScanDaemon daemon;
+
+    private final Path workingDirectory;
+
+    private final boolean commandLine;
+
     @CommandLine.Parameters(description = "Program arguments")
     private final List<String> argList = new ArrayList<>();
 
@@ -94,8 +107,93 @@ public class ScanCmd implements BLauncherCmd {
             description = "Specify the comma separated list of static code analysis platforms to report issues")
     private List<String> platforms = new ArrayList<>();
 
+    @CommandLine.Option(names = "--threads",
+            description = "Specify the number of threads to use for analyzing documents in parallel")
+    private int threads = 1;
+
+    @CommandLine.Option(names = "--incremental",
+            description = "Reuse the analysis results of unchanged documents from the previous scan")
+    private boolean incremental;
+
+    @CommandLine.Option(names = "--changed-since",
+            description = "Analyze only the Ballerina files changed since the merge base of the given git reference")
+    private String changedSince;
+
+    @CommandLine.Option(names = "--low-memory",
+            description = "Analyze one module at a time and release the analysis data of each completed module")
+    private boolean lowMemory;
+
+    @CommandLine.Option(names = "--rule-timeout",
+            description = "Skip a rule on a document once it exceeds the given time in milliseconds")
+    private long ruleTimeout;
+
+    @CommandLine.Option(names = "--document-timeout",
+            description = "Skip the remaining analysis of a document once it exceeds the given time in milliseconds")
+    private long documentTimeout;
+
+    @CommandLine.Option(names = "--profile",
+            description = "Report the time, visited nodes, documents and issues of each rule")
+    private boolean profile;
+
+    @CommandLine.Option(names = "--metrics-out",
+            description = "Write the scan metrics to the given file, as JSON for .json files and in the Prometheus "
+                    + "text format otherwise")
+    private String metricsOut;
+
+    @CommandLine.Option(names = "--max-issues",
+            description = "Stop the scan and exit with a distinct exit code once more issues than given are found")
+    private Integer maxIssues;
+
+    @CommandLine.Option(names = "--max-severity-issues", split = ",",
+            description = "Stop the scan once more issues of a severity than given are found, e.g. BUG=0")
+    private Map<Severity, Integer> maxSeverityIssues = new EnumMap<>(Severity.class);
+
+    @CommandLine.Option(names = "--shard",
+            description = "Analyze only the given shard of the package documents, in the 'i/N' format")
+    private String shard;
+
+    @CommandLine.Option(names = "--merge",
+            description = "Merge the given shard results files into the results of the package")
+    private boolean merge;
+
+    @CommandLine.Option(names = "--workspace",
+            description = "Scan all Ballerina packages found under the given directory in a single run")
+    private boolean workspace;
+
+    @CommandLine.Option(names = "--daemon",
+            description = "Start a scan daemon which keeps projects and analyzers loaded between scans")
+    private boolean daemonMode;
+
+    @CommandLine.Option(names = "--stop-daemon", description = "Stop the running scan daemon")
+    private boolean stopDaemon;
+
+    @CommandLine.Option(names = "--no-daemon",
+            description = "Run the scan without forwarding it to a running scan daemon")
+    private boolean noDaemon;
+
+    private int exitCode = 0;
+
+    // The class loader of the platform plugins is held until the scan completes
+    private URLClassLoader platformClassLoader = null;
+
+    // An abandoned analysis thread may still be using the project, which is then not reused by the daemon
+    private boolean projectReusable = true;
+
     public ScanCmd() {
-        this.outputStream = System.out;
+        this(System.out, null, Paths.get(System.getProperty(ProjectConstants.USER_DIR)), true);
+    }
+
+    ScanCmd(PrintStream outputStream, ScanDaemon daemon, Path workingDirectory) {
+        this(outputStream, daemon, workingDirectory, false);
+    }
+
+    // Only the scans launched from the command line exit the process, the scans run by the daemon or in-process
+    // keep the exit code for the caller
+    private ScanCmd(PrintStream outputStream, ScanDaemon daemon, Path workingDirectory, boolean commandLine) {
+        this.outputStream = outputStream;
+        this.daemon = daemon;
+        this.workingDirectory = workingDirectory;
+        this.commandLine = commandLine;
     }
 
     @Override
@@ -120,129 +218,211 @@ public class ScanCmd implements BLauncherCmd {
 
     @Override
     public void execute() {
+        try {
+            scan();
+        } finally {
+            if (platformClassLoader != null) {
+                ClassLoaderCache.release(platformClassLoader);
+                platformClassLoader = null;
+            }
+        }
+    }
+
+    private void scan() {
         if (helpFlag) {
             StringBuilder builder = helpMessage();
             outputStream.println(builder);
             return;
         }
 
-        // Load the project
-        Project project = getProject();
+        if (threads < 1) {
+            outputStream.println("Error: The number of threads should be a positive integer.");
+            return;
+        }
 
-        // Stop further execution if project is null
-        if (project == null) {
+        if (ruleTimeout < 0 || documentTimeout < 0) {
+            outputStream.println("Error: The rule and document timeouts should not be negative.");
             return;
         }
 
-        // Retrieve Scan.toml file configurations
-        ScanTomlFile scanTomlFile = ScanUtils.retrieveScanTomlConfigurations(project);
+        if ((maxIssues != null && maxIssues < 0) || maxSeverityIssues.values().stream().anyMatch(max -> max < 0)) {
+            outputStream.println("Error: The issue limits should not be negative.");
+            return;
+        }
 
-        // Initialize project analyzer
-        ProjectAnalyzer projectAnalyzer = new ProjectAnalyzer(scanTomlFile);
+        Shard scanShard = null;
+        if (shard != null) {
+            try {
+                scanShard = Shard.parse(shard);
+            } catch (IllegalArgumentException ex) {
+                outputStream.println("Error: " + ex.getMessage());
+                return;
+            }
+        }
 
-        // Load and add rules from all static code analyzer plugins
-        if (listRules) {
-            List<Rule> allRules = projectAnalyzer.getExternalAnalyzerRules(project);
-            allRules.addAll(InbuiltRules.INBUILT_RULES);
-            ScanUtils.printRulesToConsole(allRules);
+        if (scanShard != null && merge) {
+            outputStream.println("Error: The --shard and --merge options cannot be used together.");
             return;
         }
 
-        outputStream.println();
-        outputStream.println("Running Scans...");
+        if (merge && argList.isEmpty()) {
+            outputStream.println("Error: Specify the shard results files to merge.");
+            return;
+        }
+
+        // Daemon requests are only accepted from the command line
+        if (daemon != null && (daemonMode || stopDaemon)) {
+            outputStream.println("Error: The scan daemon can only be managed from the command line.");
+            return;
+        }
 
-        // Get all rules to include from Scan.toml file
-        Set<ScanTomlFile.RuleToFilter> rulesToInclude = scanTomlFile.getRulesToInclude();
+        if (daemonMode) {
+            new ScanDaemon(outputStream).start();
+            return;
+        }
 
-        // Convert to String list
-        List<String> allRulesToInclude = rulesToInclude.stream()
-                .map(ScanTomlFile.RuleToFilter::getId)
-                .collect(Collectors.toCollection(ArrayList::new));
+        if (stopDaemon) {
+            if (!ScanDaemon.stop(outputStream)) {
+                outputStream.println("No running scan daemon was found.");
+            }
+            return;
+        }
 
-        // Add console defined rules to include
-        allRulesToInclude.addAll(includeRules);
+        // Forward the scan launched from the command line to a running daemon of the same scan tool build, which
+        // already has the project and the analyzers loaded
+        if (commandLine && !noDaemon && !ScanDaemon.isDisabled()) {
+            int daemonExitCode = ScanDaemon.forward(workingDirectory, forwardedArguments(), outputStream);
+            if (daemonExitCode != ScanDaemon.NO_DAEMON) {
+                exit(daemonExitCode);
+                return;
+            }
+        }
 
-        // Get all rules to exclude from Scan.toml file
-        Set<ScanTomlFile.RuleToFilter> rulesToExclude = scanTomlFile.getRulesToExclude();
+        if (workspace) {
+            scanWorkspace();
+            return;
+        }
 
-        // Convert to String list
-        List<String> allRulesToExclude = rulesToExclude.stream()
-                .map(ScanTomlFile.RuleToFilter::getId)
-                .collect(Collectors.toCollection(ArrayList::new));
+        // Load the project
+        ScanMetrics scanMetrics = new ScanMetrics();
+        ScanPhaseEvent projectLoadEvent = ScanPhaseEvent.start("project-load", null);
+        Project project = getProject();
 
-        // Add console defined rules to exclude
-        allRulesToExclude.addAll(excludeRules);
+        // Stop further execution if project is null
+        if (project == null) {
+            return;
+        }
+        String packageName = project.currentPackage().packageName().toString();
+        projectLoadEvent.packageName = packageName;
+        scanMetrics.recordPhase(projectLoadEvent);
 
-        // Perform core scans on ballerina file/project
-        List<Issue> issues = projectAnalyzer.analyzeProject(project);
+        if ((scanShard != null || merge) && !project.kind().equals(ProjectKind.BUILD_PROJECT)) {
+            outputStream.println("Error: Sharded scans are only supported with ballerina build projects.");
+            return;
+        }
 
-        // Perform external scans
-        List<Issue> externalIssues = projectAnalyzer.runExternalAnalyzers(project);
+        // Each shard saves its partial results, which are reported once the shard results are merged
+        boolean incrementalScan = incremental;
+        if (scanShard != null) {
+            if (incremental || scanReport || !platforms.isEmpty() || platformTriggered) {
+                outputStream.println("The --incremental, --scan-report and --platforms options are not supported " +
+                        "with sharded scans, use them when merging the shard results. Ignoring them and " +
+                        "continuing the scans...");
+            }
+            incrementalScan = false;
+            scanReport = false;
+            platforms.clear();
+            platformTriggered = false;
+        }
 
-        // Add all issues
-        issues.addAll(externalIssues);
+        // Retrieve Scan.toml file configurations
+        ScanPhaseEvent configurationEvent = ScanPhaseEvent.start("scan-configuration", packageName);
+        ScanTomlFile scanTomlFile = ScanUtils.retrieveScanTomlConfigurations(project, outputStream);
+        scanMetrics.recordPhase(configurationEvent);
 
-        // Remove rules not in include list
-        if (!allRulesToInclude.isEmpty()) {
-            issues.removeIf(issue -> !allRulesToInclude.contains(issue.rule().id()));
+        // Initialize project analyzer
+        // Resolve the rules to include and exclude before the analysis
+        RuleFilter ruleFilter;
+        try {
+            ruleFilter = RuleFilter.from(scanTomlFile, includeRules, excludeRules);
+        } catch (IllegalArgumentException ex) {
+            outputStream.println("Error: " + ex.getMessage());
+            return;
+        }
+        ProjectAnalyzer projectAnalyzer = new ProjectAnalyzer(scanTomlFile, ruleFilter, threads, incrementalScan,
+                lowMemory);
+        projectAnalyzer.setTimeBudgets(ruleTimeout, documentTimeout);
+        if (profile) {
+            projectAnalyzer.enableProfiling();
+        }
+        IssueThreshold issueThreshold = new IssueThreshold(maxIssues, maxSeverityIssues);
+        projectAnalyzer.setIssueThreshold(issueThreshold);
+        if (scanShard != null) {
+            projectAnalyzer.setShard(scanShard);
         }
 
-        // Remove rules in exclude list
-        if (!allRulesToExclude.isEmpty()) {
-            issues.removeIf(issue -> allRulesToExclude.contains(issue.rule().id()));
+        // The scan cache follows the results into the given target directory
+        if (incrementalScan && project.kind().equals(ProjectKind.BUILD_PROJECT)) {
+            projectAnalyzer.setReportDirectory(ScanUtils.getReportDirectory(project, targetDir));
+        }
+
+        // Restrict the analysis to the files changed in the local git repository
+        if (changedSince != null && !listRules && !merge) {
+            Set<Path> changedFiles = ScanUtils.getChangedFiles(project.sourceRoot(), changedSince);
+            if (changedFiles == null) {
+                outputStream.println("Error: Unable to retrieve the files changed since '" + changedSince
+                        + "' from the local git repository.");
+                return;
+            }
+            projectAnalyzer.setDocumentPaths(changedFiles);
+            outputStream.println("Analyzing " + changedFiles.size() + " Ballerina file(s) changed since '"
+                    + changedSince + "'...");
         }
 
+        // Load and add rules from all static code analyzer plugins
+        if (listRules) {
+            List<Rule> allRules = projectAnalyzer.getExternalAnalyzerRules(project);
+            allRules.addAll(InbuiltRules.INBUILT_RULES);
+            ScanUtils.printRulesToConsole(allRules, outputStream);
+            return;
+        }
+
+        outputStream.println();
+        outputStream.println(scanShard != null ? "Running Scans for shard " + scanShard + "..." : "Running Scans...");
+
+        // The issues are passed through the outputs as they are reported instead of being collected upfront
+        CompositeIssueSink issueSink = new CompositeIssueSink(packageName);
+        issueSink.add(scanMetrics, "metrics-collection");
+
         // Produce analysis results locally if 'local' platform is given
-        if (platforms.isEmpty() && !platformTriggered) {
-            // Print results to console
-            ScanUtils.printToConsole(issues);
+        boolean localAnalysis = platforms.isEmpty() && !platformTriggered;
+        Path reportDirectory = null;
+        String resultsFileName = scanShard != null ? scanShard.resultsFileName() : ScanToolConstants.RESULTS_JSON_FILE;
+        ConsoleIssueSink consoleSink = null;
+        if (localAnalysis) {
+            // Print results to console, the sink is flushed before anything else is printed to the console
+            consoleSink = ScanUtils.printToConsole(outputStream);
+            issueSink.add(consoleSink, "console-output");
 
             // Generate reports only if scan is on a build project
             if (project.kind().equals(ProjectKind.BUILD_PROJECT)) {
+                reportDirectory = ScanUtils.getReportDirectory(project, targetDir);
                 if (scanReport) {
-                    Path scanReportPath;
-                    outputStream.println();
-                    outputStream.println("Generating scan report...");
-                    if (targetDir != null) {
-                        scanReportPath = ScanUtils.generateScanReport(issues, project, targetDir);
-                    } else {
-                        scanReportPath = ScanUtils.generateScanReport(issues, project, null);
-                    }
-                    outputStream.println();
-                    outputStream.println("View scan report at:");
-                    outputStream.println("\t" + ScanToolConstants.FILE_PROTOCOL + scanReportPath + "\n");
+                    issueSink.add(ScanUtils.generateScanReport(project, reportDirectory), "report-generation");
                 }
 
                 // Save results to directory
-                Path reportPath;
-                if (targetDir != null) {
-                    reportPath = ScanUtils.saveToDirectory(issues, project, targetDir);
-                } else {
-                    reportPath = ScanUtils.saveToDirectory(issues, project, null);
-                }
-
-                outputStream.println();
-                outputStream.println("View scan results at:");
-                outputStream.println("\t" + reportPath + "\n");
-            } else {
-                if (scanReport) {
-                    outputStream.println();
-                    outputStream.println("Scan report is not yet supported with single bal files. " +
-                            "Ignoring the flag and continuing the scans...");
-                }
-
-                if (targetDir != null) {
-                    outputStream.println();
-                    outputStream.println("Generating reports to specified target directory is not yet supported with " +
-                            "single bal files. Ignoring the flag and continuing the scans...");
-                }
+                issueSink.add(ScanUtils.saveToDirectory(reportDirectory, resultsFileName), "results-saving");
             }
         }
 
         // Retrieve the platform JAR file paths and arguments from Scan.toml
         List<String> externalJarFilePaths = new ArrayList<>();
         Map<String, PlatformPluginContext> platformContexts = new HashMap<>();
-        scanTomlFile.getPlatforms().forEach(platform -> {
+        List<ScanTomlFile.Platform> platformConfigurations = scanShard != null
+                ? Collections.emptyList()
+                : scanTomlFile.getPlatforms();
+        platformConfigurations.forEach(platform -> {
             if (platformTriggered && platforms.size() == 1 && platforms.contains(platform.getName())) {
                 externalJarFilePaths.add(platform.getPath());
 
@@ -267,25 +447,153 @@ public class ScanCmd implements BLauncherCmd {
             }
         });
 
-        URLClassLoader ucl = loadExternalJars(externalJarFilePaths);
+        platformClassLoader = loadExternalJars(externalJarFilePaths);
 
         ServiceLoader<StaticCodeAnalysisPlatformPlugin> scannerPlatformPlugins = ServiceLoader.load(
-                StaticCodeAnalysisPlatformPlugin.class, ucl);
+                StaticCodeAnalysisPlatformPlugin.class, platformClassLoader);
 
         // Proceed reporting to platforms if plugins exists
+        ConsoleIssueSink printedIssues = consoleSink;
         scannerPlatformPlugins.forEach(staticCodeAnalysisPlatformPlugin -> {
             if (platforms.contains(staticCodeAnalysisPlatformPlugin.platform())) {
                 PlatformPluginContext platformPluginContext = platformContexts.get(
                         staticCodeAnalysisPlatformPlugin.platform());
 
+                if (printedIssues != null) {
+                    printedIssues.flush();
+                }
                 outputStream.println("Reporting issues to " + staticCodeAnalysisPlatformPlugin.platform() + "...");
                 staticCodeAnalysisPlatformPlugin.init(platformPluginContext);
-                staticCodeAnalysisPlatformPlugin.onScan(issues);
+                issueSink.add(staticCodeAnalysisPlatformPlugin.issueSink(),
+                        "platform-reporting:" + staticCodeAnalysisPlatformPlugin.platform());
 
                 platforms.removeAll(Collections.singleton(staticCodeAnalysisPlatformPlugin.platform()));
             }
         });
 
+        HeapUsageMonitor.reset();
+
+        // A failed scan leaves the results of the previous scan in place
+        try {
+            if (merge) {
+                // Report the issues of the shards instead of analyzing the package
+                ScanPhaseEvent mergeEvent = ScanPhaseEvent.start("shard-merge", packageName);
+                if (consoleSink != null) {
+                    consoleSink.flush();
+                }
+                outputStream.println("Merging " + argList.size() + " shard results file(s)...");
+                argList.forEach(resultsFile -> {
+                    mergeShardResults(workingDirectory.resolve(resultsFile), issueSink, issueThreshold);
+                });
+                mergeEvent.issueCount = issueSink.issueCount();
+                scanMetrics.recordPhase(mergeEvent);
+            } else {
+                // Inject the external analyzers before the package is compiled
+                ScanPhaseEvent engagementEvent = ScanPhaseEvent.start("external-analyzer-engagement", packageName);
+                projectAnalyzer.engageExternalAnalyzers(project);
+                scanMetrics.recordPhase(engagementEvent);
+
+                // Perform core scans on ballerina file/project, the same compilation runs the external scans
+                ScanPhaseEvent analysisEvent = ScanPhaseEvent.start("analysis", packageName);
+                projectAnalyzer.analyzeProject(project, issueSink);
+                projectReusable = !projectAnalyzer.isAnalysisAbandoned();
+                analysisEvent.issueCount = issueSink.issueCount();
+                scanMetrics.recordPhase(analysisEvent);
+
+                // Report the external scan results
+                ScanPhaseEvent externalIssuesEvent = ScanPhaseEvent.start("external-issue-reporting", packageName);
+                long inbuiltIssueCount = issueSink.issueCount();
+                projectAnalyzer.reportExternalIssues(issueSink);
+                externalIssuesEvent.issueCount = issueSink.issueCount() - inbuiltIssueCount;
+                scanMetrics.recordPhase(externalIssuesEvent);
+            }
+            issueSink.complete();
+        } catch (RuntimeException | Error ex) {
+            issueSink.abort();
+            throw ex;
+        }
+        scanMetrics.recordPhases(issueSink.completionDurations());
+        scanMetrics.recordAnalysis(projectAnalyzer.analyzedDocumentCount(), projectAnalyzer.analyzedLineCount(),
+                projectAnalyzer.compilationCount());
+        scanMetrics.recordWorkerIdleTimes(projectAnalyzer.workerIdleTimes());
+        scanMetrics.recordMemory(HeapUsageMonitor.peakHeapUsageInMegabytes(), HeapUsageMonitor.gcTimeInMillis());
+
+        outputStream.println("Compilations performed: " + projectAnalyzer.compilationCount());
+        outputStream.println("Peak heap usage: " + HeapUsageMonitor.peakHeapUsageInMegabytes() + " MB");
+        if (threads > 1) {
+            // Large idle times suggest that fewer threads would analyze the package as fast
+            outputStream.println("Worker idle time: " + projectAnalyzer.workerIdleTimes().stream()
+                    .map(idleTime -> TimeUnit.NANOSECONDS.toMillis(idleTime) + " ms")
+                    .collect(Collectors.joining(", ")));
+        }
+        if (incrementalScan) {
+            outputStream.println("Documents analyzed: " + projectAnalyzer.analyzedDocumentCount()
+                    + " (unchanged documents were reused from the scan cache)");
+        }
+        List<SkippedAnalysis> skippedAnalyses = projectAnalyzer.getSkippedAnalyses();
+        ScanUtils.printSkippedAnalyses(outputStream, skippedAnalyses);
+        List<RuleProfiler.RuleProfile> ruleProfiles = profile
+                ? projectAnalyzer.getRuleProfiler().rankedProfiles()
+                : Collections.emptyList();
+        if (profile) {
+            outputStream.println();
+            outputStream.println("Rule profile:");
+            ScanUtils.printRuleProfilesToConsole(ruleProfiles, outputStream);
+        }
+
+        if (localAnalysis) {
+            if (reportDirectory != null) {
+                if (scanReport) {
+                    outputStream.println();
+                    outputStream.println("Generating scan report...");
+                    outputStream.println();
+                    outputStream.println("View scan report at:");
+                    outputStream.println("\t" + ScanToolConstants.FILE_PROTOCOL
+                            + reportDirectory.resolve(ScanToolConstants.RESULTS_HTML_FILE) + "\n");
+                }
+
+                outputStream.println();
+                outputStream.println("View scan results at:");
+                outputStream.println("\t" + reportDirectory.resolve(resultsFileName) + "\n");
+
+                if (profile) {
+                    outputStream.println("View rule profile at:");
+                    outputStream.println("\t" + ScanUtils.saveRuleProfiles(reportDirectory, ruleProfiles) + "\n");
+                }
+
+                if (!skippedAnalyses.isEmpty()) {
+                    outputStream.println("View skipped analyses at:");
+                    outputStream.println("\t" + ScanUtils.saveSkippedAnalyses(reportDirectory, skippedAnalyses) + "\n");
+                }
+            } else {
+                if (scanReport) {
+                    outputStream.println();
+                    outputStream.println("Scan report is not yet supported with single bal files. " +
+                            "Ignoring the flag and continuing the scans...");
+                }
+
+                if (targetDir != null) {
+                    outputStream.println();
+                    outputStream.println("Generating reports to specified target directory is not yet supported with " +
+                            "single bal files. Ignoring the flag and continuing the scans...");
+                }
+
+                if (incremental) {
+                    outputStream.println();
+                    outputStream.println("Incremental scans are not yet supported with single bal files. " +
+                            "Ignoring the flag and continuing the scans...");
+                }
+            }
+        }
+
+        if (metricsOut != null) {
+            Path metricsPath = workingDirectory.resolve(metricsOut);
+            ScanUtils.saveScanMetrics(metricsPath, scanMetrics);
+            outputStream.println();
+            outputStream.println("View scan metrics at:");
+            outputStream.println("\t" + metricsPath + "\n");
+        }
+
         // If there are any platforms remaining which were not found in platform plugin JARs
         platforms.forEach(remainingPlatform -> {
             outputStream.println();
@@ -293,6 +601,73 @@ public class ScanCmd implements BLauncherCmd {
             outputStream.println("Please ensure that the required platform plugin is installed and its path" +
                     " is correctly specified in Scan.toml.");
         });
+
+        // Report the partial results of a scan stopped by the issue threshold with a distinct exit code
+        String exceededIssueLimit = projectAnalyzer.exceededIssueLimit();
+        if (exceededIssueLimit != null) {
+            outputStream.println();
+            outputStream.println("Error: The issue threshold was exceeded as " + exceededIssueLimit + ". The scan "
+                    + "was stopped early and the reported results are partial.");
+            exit(ISSUE_THRESHOLD_EXCEEDED_EXIT_CODE);
+        }
+    }
+
+    // Passes the issues of a shard results file to the sink one by one, the merged issues are counted towards the
+    // issue threshold without stopping the merge
+    private void mergeShardResults(Path resultsFile, IssueSink issueSink, IssueThreshold issueThreshold) {
+        Gson gson = new Gson();
+        try (JsonReader jsonReader = gson.newJsonReader(Files.newBufferedReader(resultsFile,
+                StandardCharsets.UTF_8))) {
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                IssueIml issue = gson.fromJson(jsonReader, IssueIml.class);
+                issueThreshold.record(issue.rule().severity());
+                issueSink.accept(issue);
+            }
+            jsonReader.endArray();
+        } catch (IOException | JsonParseException ex) {
+            throw new RuntimeException("Unable to merge the shard results file '" + resultsFile + "'", ex);
+        }
+    }
+
+    // The exit code of a scan served by a daemon is sent back to the client instead of exiting the daemon
+    private void exit(int exitCode) {
+        this.exitCode = exitCode;
+        if (commandLine && exitCode != 0) {
+            outputStream.flush();
+            Runtime.getRuntime().exit(exitCode);
+        }
+    }
+
+    int exitCode() {
+        return exitCode;
+    }
+
+    boolean isProjectReusable() {
+        return projectReusable;
+    }
+
+    private void scanWorkspace() {
+        Path workspaceRoot = argList.isEmpty() ? workingDirectory : workingDirectory.resolve(argList.get(0));
+        if (!workspaceRoot.toFile().isDirectory()) {
+            outputStream.println("Error: The workspace root '" + workspaceRoot + "' is not a directory.");
+            return;
+        }
+
+        if (!platforms.isEmpty() || platformTriggered || targetDir != null || changedSince != null || listRules
+                || metricsOut != null || maxIssues != null || !maxSeverityIssues.isEmpty() || shard != null
+                || merge) {
+            outputStream.println("Error: The --platforms, --target-dir, --changed-since, --list-rules, --metrics-out, "
+                    + "--shard, --merge and issue limit options are not supported with workspace scans.");
+            exit(SCAN_FAILED_EXIT_CODE);
+            return;
+        }
+
+        boolean scanned = new WorkspaceScanner(outputStream, threads, incremental, lowMemory, scanReport,
+                includeRules, excludeRules, ruleTimeout, documentTimeout, profile).scan(workspaceRoot);
+        if (!scanned) {
+            exit(SCAN_FAILED_EXIT_CODE);
+        }
     }
 
     public StringBuilder helpMessage() {
@@ -318,10 +693,11 @@ public class ScanCmd implements BLauncherCmd {
 
     private Project getProject() {
         // retrieve the user passed argument or the current working directory
-        if (argList.isEmpty()) {
+        // The arguments of a merge are the shard results files of the package in the working directory
+        if (argList.isEmpty() || merge) {
             // Return the loaded project or the relevant error message
             try {
-                Project project = BuildProject.load(Paths.get(System.getProperty(ProjectConstants.USER_DIR)));
+                Project project = loadBuildProject(workingDirectory);
 
                 // Check if there is at least 1 ballerina file in the project and proceed
                 if (ProjectUtils.isProjectEmpty(project)) {
@@ -335,10 +711,10 @@ public class ScanCmd implements BLauncherCmd {
             }
         } else {
             // Return the loaded project or the relevant error message
-            Path path = Paths.get(argList.get(0));
+            Path path = workingDirectory.resolve(argList.get(0));
             try {
                 if (path.toFile().isDirectory()) {
-                    Project project = BuildProject.load(path);
+                    Project project = loadBuildProject(path);
 
                     // Check if there is at least 1 ballerina file in the project and proceed
                     if (ProjectUtils.isProjectEmpty(project)) {
@@ -347,7 +723,7 @@ public class ScanCmd implements BLauncherCmd {
                     }
                     return project;
                 } else {
-                    return SingleFileProject.load(Paths.get(argList.get(0)));
+                    return SingleFileProject.load(path);
                 }
             } catch (RuntimeException ex) {
                 outputStream.println(ex.getMessage());
@@ -356,16 +732,81 @@ public class ScanCmd implements BLauncherCmd {
         }
     }
 
+    private Project loadBuildProject(Path path) {
+        // Reuse the warm project when the scan is served by a daemon
+        if (daemon != null) {
+            return daemon.loadBuildProject(path);
+        }
+        return BuildProject.load(path);
+    }
+
+    private List<String> forwardedArguments() {
+        List<String> arguments = new ArrayList<>(argList);
+        if (platformTriggered) {
+            arguments.add("--platform-triggered");
+        }
+        if (targetDir != null) {
+            arguments.add("--target-dir=" + targetDir);
+        }
+        if (scanReport) {
+            arguments.add("--scan-report");
+        }
+        if (listRules) {
+            arguments.add("--list-rules");
+        }
+        if (!includeRules.isEmpty()) {
+            arguments.add("--include-rules=" + String.join(",", includeRules));
+        }
+        if (!excludeRules.isEmpty()) {
+            arguments.add("--exclude-rules=" + String.join(",", excludeRules));
+        }
+        if (!platforms.isEmpty()) {
+            arguments.add("--platforms=" + String.join(",", platforms));
+        }
+        arguments.add("--threads=" + threads);
+        if (incremental) {
+            arguments.add("--incremental");
+        }
+        if (changedSince != null) {
+            arguments.add("--changed-since=" + changedSince);
+        }
+        if (lowMemory) {
+            arguments.add("--low-memory");
+        }
+        if (ruleTimeout > 0) {
+            arguments.add("--rule-timeout=" + ruleTimeout);
+        }
+        if (documentTimeout > 0) {
+            arguments.add("--document-timeout=" + documentTimeout);
+        }
+        if (profile) {
+            arguments.add("--profile");
+        }
+        if (metricsOut != null) {
+            // The daemon resolves relative paths against its own working directory
+            arguments.add("--metrics-out=" + workingDirectory.resolve(metricsOut).toAbsolutePath());
+        }
+        if (maxIssues != null) {
+            arguments.add("--max-issues=" + maxIssues);
+        }
+        if (!maxSeverityIssues.isEmpty()) {
+            arguments.add("--max-severity-issues=" + maxSeverityIssues.entrySet().stream()
+                    .map(entry -> entry.getKey() + "=" + entry.getValue())
+                    .collect(Collectors.joining(",")));
+        }
+        if (shard != null) {
+            arguments.add("--shard=" + shard);
+        }
+        if (merge) {
+            arguments.add("--merge");
+        }
+        if (workspace) {
+            arguments.add("--workspace");
+        }
+        return arguments;
+    }
+
     private URLClassLoader loadExternalJars(List<String> jarPaths) {
-        List<URL> jarUrls = new ArrayList<>();
-        jarPaths.forEach(jarPath -> {
-            try {
-                URL jarUrl = Path.of(jarPath).toUri().toURL();
-                jarUrls.add(jarUrl);
-            } catch (MalformedURLException ex) {
-                throw new RuntimeException(ex);
-            }
-        });
-        return new URLClassLoader(jarUrls.toArray(new URL[0]), this.getClass().getClassLoader());
+        return ClassLoaderCache.acquire(jarPaths);
     }
 }
@@ -0,0 +1,518 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.projects.BallerinaToml;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import picocli.CommandLine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.ballerina.projects.util.ProjectConstants.BALLERINA_TOML;
+import static io.ballerina.projects.util.ProjectConstants.BLANG_SOURCE_EXT;
+import static io.ballerina.projects.util.ProjectConstants.DEPENDENCIES_TOML;
+import static io.ballerina.scan.internal.ScanToolConstants.DAEMON_FILE;
+import static io.ballerina.scan.internal.ScanToolConstants.TARGET_DIR_NAME;
+
+public class ScanDaemon {
+
+    private static final String SCAN_REQUEST = "scan";
+    private static final String STOP_REQUEST = "stop";
+    static final int REQUEST_ACCEPTED = 0;
+    static final int REQUEST_REJECTED = 1;
+    private static final int END_OF_OUTPUT = -1;
+    static final int NO_DAEMON = -1;
+
+    // A client has to send its request right after connecting, and the daemon replies before running the scan
+    private static final int REQUEST_TIMEOUT_MILLIS = 10000;
+    private static final String NO_DAEMON_ENVIRONMENT_VARIABLE = "BAL_SCAN_NO_DAEMON";
+
+    // Identifies the scan tool build of the process, a daemon only serves the scans of the same build
+    private static final String TOOL_IDENTITY = toolIdentity();
+
+    private final PrintStream outputStream;
+
+    // The requests are served on their own threads, while the scans are run one at a time as the compiler is not
+    // thread safe. The warm projects are only accessed while holding the scan lock.
+    private final Object scanLock = new Object();
+    private final Map<Path, WarmProject> warmProjects = new HashMap<>();
+    private volatile boolean running = true;
+
+    ScanDaemon(PrintStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    void start() {
+        String token = UUID.randomUUID().toString();
+        Path daemonFile = getDaemonFile();
+        ExecutorService requestExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread requestThread = new Thread(runnable, "bal-scan-daemon-request");
+            requestThread.setDaemon(true);
+            return requestThread;
+        });
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            writeDaemonFile(daemonFile, serverSocket.getLocalPort(), token);
+            outputStream.println("Scan daemon listening on port " + serverSocket.getLocalPort() + "...");
+
+            while (running) {
+                Socket socket;
+                try {
+                    socket = serverSocket.accept();
+                } catch (IOException ex) {
+                    // A stop request closes the server socket to end the accept loop
+                    if (running) {
+                        outputStream.println("Failed to accept a scan request: " + ex.getMessage());
+                    }
+                    continue;
+                }
+                requestExecutor.execute(() -> serve(socket, token, serverSocket));
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        } finally {
+            try {
+                Files.deleteIfExists(daemonFile);
+            } catch (IOException ex) {
+                outputStream.println("Failed to remove " + daemonFile + ": " + ex.getMessage());
+            }
+            awaitRequests(requestExecutor);
+        }
+        outputStream.println("Scan daemon stopped.");
+    }
+
+    // Lets the scans in progress complete before the daemon exits
+    private void awaitRequests(ExecutorService requestExecutor) {
+        requestExecutor.shutdown();
+        try {
+            while (!requestExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                outputStream.println("Waiting for the scans in progress to complete...");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void serve(Socket socket, String token, ServerSocket serverSocket) {
+        try (socket) {
+            // A client which connects without sending its request is dropped once the timeout elapses
+            socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            String requestToken = input.readUTF();
+            String request = input.readUTF();
+            String clientIdentity = input.readUTF();
+            Path workingDirectory = Path.of(input.readUTF());
+            int argumentCount = input.readInt();
+            List<String> arguments = new ArrayList<>(argumentCount);
+            for (int i = 0; i < argumentCount; i++) {
+                arguments.add(input.readUTF());
+            }
+
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            if (!token.equals(requestToken)) {
+                reply(output, REQUEST_REJECTED, "The scan request was rejected by the scan daemon.");
+                return;
+            }
+
+            // A daemon of another build can still be stopped, which is how it is replaced
+            if (STOP_REQUEST.equals(request)) {
+                reply(output, REQUEST_ACCEPTED, TOOL_IDENTITY);
+                new PrintStream(new FrameOutputStream(output), true, StandardCharsets.UTF_8)
+                        .println("Stopping the scan daemon...");
+                endOutput(output, 0);
+                running = false;
+                serverSocket.close();
+                return;
+            }
+
+            if (!TOOL_IDENTITY.equals(clientIdentity)) {
+                reply(output, REQUEST_REJECTED, "The running scan daemon was started from another build of the "
+                        + "scan tool (" + TOOL_IDENTITY + "). Restart it with 'bal scan --stop-daemon' and "
+                        + "'bal scan --daemon' to use it again.");
+                return;
+            }
+            reply(output, REQUEST_ACCEPTED, TOOL_IDENTITY);
+
+            PrintStream clientOutputStream = new PrintStream(new FrameOutputStream(output), true,
+                    StandardCharsets.UTF_8);
+            ScanCmd scanCmd = new ScanCmd(clientOutputStream, this, workingDirectory);
+            int exitCode;
+            synchronized (scanLock) {
+                // The request timeout only applies to reading the request
+                socket.setSoTimeout(0);
+                outputStream.println("Scanning " + workingDirectory + " " + String.join(" ", arguments));
+                try {
+                    new CommandLine(scanCmd).parseArgs(arguments.toArray(new String[0]));
+                    scanCmd.execute();
+                    exitCode = scanCmd.exitCode();
+
+                    // An abandoned analysis thread may still be using the project, which is loaded again instead
+                    if (!scanCmd.isProjectReusable()) {
+                        warmProjects.clear();
+                    }
+                } catch (RuntimeException | Error ex) {
+                    // Errors such as an OutOfMemoryError or a LinkageError of an analyzer JAR fail the request
+                    // instead of the daemon. A failed scan can leave its project partly modified, so the warm
+                    // projects are loaded again by the next scans.
+                    exitCode = ScanToolConstants.SCAN_FAILED_EXIT_CODE;
+                    warmProjects.clear();
+                    outputStream.println("The scan failed: " + ex);
+                    clientOutputStream.println("Error: The scan failed in the scan daemon: " + ex);
+                }
+            }
+            clientOutputStream.flush();
+            endOutput(output, exitCode);
+        } catch (IOException ex) {
+            outputStream.println("Failed to serve the scan request: " + ex.getMessage());
+        }
+    }
+
+    // The daemon replies to each request before running it, so that the client does not wait for a rejected scan
+    private static void reply(DataOutputStream output, int status, String message) throws IOException {
+        output.writeInt(status);
+        output.writeUTF(message);
+        output.flush();
+    }
+
+    // The exit code of the request follows the output, so that the client can exit with it
+    private static void endOutput(DataOutputStream output, int exitCode) throws IOException {
+        output.writeInt(END_OF_OUTPUT);
+        output.writeInt(exitCode);
+        output.flush();
+    }
+
+    // Returns the loaded project, reusing the warm project of a previous scan request when possible. Only called
+    // by the scans, which hold the scan lock.
+    Project loadBuildProject(Path projectPath) {
+        Path projectRoot = projectPath.toAbsolutePath().normalize();
+        WarmProject warmProject = warmProjects.get(projectRoot);
+        if (warmProject != null && warmProject.refresh()) {
+            return warmProject.project;
+        }
+
+        Project project = BuildProject.load(projectRoot);
+        warmProjects.put(projectRoot, new WarmProject(project));
+        return project;
+    }
+
+    // Whether the scans are kept from being forwarded to a running daemon through the environment
+    static boolean isDisabled() {
+        String noDaemon = System.getenv(NO_DAEMON_ENVIRONMENT_VARIABLE);
+        return noDaemon != null && !noDaemon.isBlank() && !noDaemon.equalsIgnoreCase("false");
+    }
+
+    // Sends the scan arguments to a running scan daemon, returns the exit code of the scan or NO_DAEMON if there
+    // is no daemon of the same scan tool build to connect to. A scan is also run without the daemon if the daemon
+    // is lost before sending any output, while a scan lost afterwards fails.
+    static int forward(Path workingDirectory, List<String> arguments, PrintStream outputStream) {
+        return sendRequest(SCAN_REQUEST, workingDirectory, arguments, outputStream);
+    }
+
+    static boolean stop(PrintStream outputStream) {
+        return sendRequest(STOP_REQUEST, Path.of("").toAbsolutePath(), new ArrayList<>(), outputStream) != NO_DAEMON;
+    }
+
+    private static int sendRequest(String request, Path workingDirectory, List<String> arguments,
+                                   PrintStream outputStream) {
+        Path daemonFile = getDaemonFile();
+        if (!Files.exists(daemonFile)) {
+            return NO_DAEMON;
+        }
+
+        String[] daemonInfo;
+        int port;
+        try {
+            daemonInfo = Files.readString(daemonFile, StandardCharsets.UTF_8).trim().split(" ");
+            port = Integer.parseInt(daemonInfo[0]);
+        } catch (IOException | RuntimeException ex) {
+            return NO_DAEMON;
+        }
+        if (daemonInfo.length != 2) {
+            return NO_DAEMON;
+        }
+
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), REQUEST_TIMEOUT_MILLIS);
+        } catch (IOException ex) {
+            // The daemon file is stale, continue without the daemon
+            closeQuietly(socket);
+            return NO_DAEMON;
+        }
+
+        boolean outputReceived = false;
+        try (socket) {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            output.writeUTF(daemonInfo[1]);
+            output.writeUTF(request);
+            output.writeUTF(TOOL_IDENTITY);
+            output.writeUTF(workingDirectory.toAbsolutePath().toString());
+            output.writeInt(arguments.size());
+            for (String argument : arguments) {
+                output.writeUTF(argument);
+            }
+            output.flush();
+
+            // The daemon replies right away, a port taken over by another process must not block the scan
+            socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            int status = input.readInt();
+            String message = input.readUTF();
+            if (status != REQUEST_ACCEPTED) {
+                outputStream.println(message);
+                if (SCAN_REQUEST.equals(request)) {
+                    outputStream.println("Running the scan without the scan daemon...");
+                }
+                return NO_DAEMON;
+            }
+            if (SCAN_REQUEST.equals(request)) {
+                outputStream.println("Running the scan in the scan daemon, set " + NO_DAEMON_ENVIRONMENT_VARIABLE
+                        + "=true or pass --no-daemon to run it in this process...");
+            }
+
+            // Relay the output frames of the daemon until the exit code of the request, which takes as long as the
+            // scan does
+            socket.setSoTimeout(0);
+            int frameLength;
+            while ((frameLength = input.readInt()) != END_OF_OUTPUT) {
+                outputStream.write(input.readNBytes(frameLength));
+                outputReceived = true;
+            }
+            outputStream.flush();
+            return input.readInt();
+        } catch (SocketTimeoutException ex) {
+            outputStream.println("The scan daemon did not respond, running the scan without it...");
+            return NO_DAEMON;
+        } catch (IOException ex) {
+            // A daemon which crashed or was killed during the scan must not pass for a successful scan
+            if (SCAN_REQUEST.equals(request) && !outputReceived) {
+                outputStream.println("Lost the connection to the scan daemon before the scan started, running the "
+                        + "scan without it...");
+                return NO_DAEMON;
+            }
+            outputStream.println();
+            outputStream.println("Error: Lost the connection to the scan daemon: " + ex.getMessage());
+            return ScanToolConstants.SCAN_FAILED_EXIT_CODE;
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ex) {
+            // Nothing to release for a socket which never connected
+        }
+    }
+
+    // The scan tool version along with the location and modification time of the scan tool JAR, which changes
+    // when the JAR is rebuilt without a version change
+    private static String toolIdentity() {
+        StringBuilder toolIdentity = new StringBuilder(ScanToolConstants.SCAN_TOOL_VERSION);
+        CodeSource codeSource = ScanDaemon.class.getProtectionDomain().getCodeSource();
+        if (codeSource != null && codeSource.getLocation() != null) {
+            try {
+                Path toolPath = Path.of(codeSource.getLocation().toURI());
+                toolIdentity.append(' ').append(toolPath).append('@')
+                        .append(Files.getLastModifiedTime(toolPath).toMillis());
+            } catch (URISyntaxException | IOException | RuntimeException ex) {
+                // Only the version identifies a scan tool of an unknown location
+            }
+        }
+        return toolIdentity.toString();
+    }
+
+    private static Path getDaemonFile() {
+        return Path.of(System.getProperty("user.home"), ".ballerina", DAEMON_FILE);
+    }
+
+    // The daemon file holds the token of the daemon, it is written to a file which is only readable by the current
+    // user from its creation and then moved in place
+    private static void writeDaemonFile(Path daemonFile, int port, String token) throws IOException {
+        Path parentDirectory = daemonFile.toAbsolutePath().getParent();
+        Files.createDirectories(parentDirectory);
+        Path temporaryFile;
+        if (daemonFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            temporaryFile = Files.createTempFile(parentDirectory, DAEMON_FILE, null,
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            temporaryFile = Files.createTempFile(parentDirectory, DAEMON_FILE, null);
+        }
+        try {
+            Files.writeString(temporaryFile, port + " " + token, StandardCharsets.UTF_8);
+            Files.move(temporaryFile, daemonFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    // Writes the output of a request in length prefixed frames, which leaves room for the exit code at the end
+    private static class FrameOutputStream extends OutputStream {
+
+        private final DataOutputStream output;
+
+        FrameOutputStream(DataOutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return;
+            }
+            output.writeInt(length);
+            output.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            output.flush();
+        }
+    }
+
+    private static class WarmProject {
+
+        private final Project project;
+        private Package pristinePackage;
+
+        WarmProject(Project project) {
+            this.project = project;
+            this.pristinePackage = project.currentPackage();
+        }
+
+        // Brings the project up to date with the file system, returns false if the project has to be reloaded
+        boolean refresh() {
+            Path projectRoot = project.sourceRoot();
+
+            // Manifest changes could change the package resolution
+            BallerinaToml ballerinaToml = pristinePackage.ballerinaToml().orElse(null);
+            String manifestContent = readFile(projectRoot.resolve(BALLERINA_TOML));
+            if (ballerinaToml == null || manifestContent == null
+                    || !manifestContent.equals(ballerinaToml.tomlDocument().textDocument().toString())) {
+                return false;
+            }
+
+            // The locked dependency versions decide the resolved packages as well
+            String lockedDependencies = pristinePackage.dependenciesToml()
+                    .map(dependenciesToml -> dependenciesToml.tomlDocument().textDocument().toString())
+                    .orElse(null);
+            if (!Objects.equals(lockedDependencies, readFile(projectRoot.resolve(DEPENDENCIES_TOML)))) {
+                return false;
+            }
+
+            // Added or removed documents require a reload
+            Map<Path, DocumentId> documentPaths = new HashMap<>();
+            for (ModuleId moduleId : pristinePackage.moduleIds()) {
+                Module module = pristinePackage.module(moduleId);
+                Stream.concat(module.documentIds().stream(), module.testDocumentIds().stream())
+                        .forEach(documentId -> project.documentPath(documentId).ifPresent(documentPath -> {
+                            documentPaths.put(documentPath.toAbsolutePath().normalize(), documentId);
+                        }));
+            }
+            if (!documentPaths.keySet().equals(findBalFiles(projectRoot))) {
+                return false;
+            }
+
+            // Discard the in-memory modifications of the previous scan. A package left unmodified is kept along with
+            // its compilation, while the scans engaging external analyzers compile the package again anyway as the
+            // analyzers only run as a part of a compilation.
+            if (project.currentPackage() != pristinePackage) {
+                pristinePackage.modify().apply();
+            }
+
+            // Apply the modified documents on top of the pristine package
+            for (Map.Entry<Path, DocumentId> documentPath : documentPaths.entrySet()) {
+                DocumentId documentId = documentPath.getValue();
+                String documentContent = readFile(documentPath.getKey());
+                if (documentContent == null) {
+                    return false;
+                }
+
+                Document document = project.currentPackage().module(documentId.moduleId()).document(documentId);
+                if (!documentContent.equals(document.textDocument().toString())) {
+                    document.modify().withContent(documentContent).apply();
+                }
+            }
+
+            pristinePackage = project.currentPackage();
+            return true;
+        }
+
+        private static Set<Path> findBalFiles(Path projectRoot) {
+            Path targetDirectory = projectRoot.resolve(TARGET_DIR_NAME);
+            Set<Path> balFiles = new HashSet<>();
+            try (Stream<Path> paths = Files.walk(projectRoot)) {
+                paths.filter(path -> !path.startsWith(targetDirectory))
+                        .filter(path -> path.toString().endsWith(BLANG_SOURCE_EXT))
+                        .forEach(path -> balFiles.add(path.toAbsolutePath().normalize()));
+            } catch (IOException ex) {
+                return new HashSet<>();
+            }
+            return balFiles;
+        }
+
+        private static String readFile(Path path) {
+            try {
+                return Files.readString(path, StandardCharsets.UTF_8);
+            } catch (IOException ex) {
+                return null;
+            }
+        }
+    }
+}
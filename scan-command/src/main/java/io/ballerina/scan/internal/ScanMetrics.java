@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import com.google.gson.stream.JsonWriter;
+import io.ballerina.scan.Issue;
+import io.ballerina.scan.IssueSink;
+import io.ballerina.scan.Severity;
+import io.ballerina.scan.Source;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Collects the metrics of a scan and writes them in the Prometheus text format or as JSON
+public class ScanMetrics implements IssueSink {
+
+    private static final String METRIC_PREFIX = "bal_scan_";
+
+    private final Map<String, Long> phaseDurations = new LinkedHashMap<>();
+    private final Map<Severity, Long> issuesBySeverity = new EnumMap<>(Severity.class);
+    private final Map<Source, Long> issuesBySource = new EnumMap<>(Source.class);
+    private long documentCount;
+    private long lineCount;
+    private long compilationCount;
+    private long peakHeapUsage;
+    private long gcTime;
+    private List<Long> workerIdleTimes = new ArrayList<>();
+
+    ScanMetrics() {
+        for (Severity severity : Severity.values()) {
+            issuesBySeverity.put(severity, 0L);
+        }
+        for (Source source : Source.values()) {
+            issuesBySource.put(source, 0L);
+        }
+    }
+
+    // Records the duration of a scan phase in nanoseconds, repeated phases are summed up
+    synchronized void recordPhase(String phase, long duration) {
+        phaseDurations.merge(phase, duration, Long::sum);
+    }
+
+    synchronized void recordPhase(ScanPhaseEvent event) {
+        recordPhase(event.phase, event.finish());
+    }
+
+    synchronized void recordPhases(Map<String, Long> durations) {
+        durations.forEach(this::recordPhase);
+    }
+
+    synchronized void recordAnalysis(long documentCount, long lineCount, long compilationCount) {
+        this.documentCount = documentCount;
+        this.lineCount = lineCount;
+        this.compilationCount = compilationCount;
+    }
+
+    synchronized void recordMemory(long peakHeapUsageInMegabytes, long gcTimeInMillis) {
+        this.peakHeapUsage = peakHeapUsageInMegabytes;
+        this.gcTime = gcTimeInMillis;
+    }
+
+    // Idle time of each analysis thread in nanoseconds
+    synchronized void recordWorkerIdleTimes(List<Long> workerIdleTimes) {
+        this.workerIdleTimes = new ArrayList<>(workerIdleTimes);
+    }
+
+    @Override
+    public synchronized void accept(Issue issue) {
+        issuesBySeverity.merge(issue.rule().severity(), 1L, Long::sum);
+        issuesBySource.merge(issue.source(), 1L, Long::sum);
+    }
+
+    @Override
+    public void complete() {
+    }
+
+    // Lines analyzed per second of the analysis phase
+    private double throughput() {
+        Long analysisDuration = phaseDurations.get("analysis");
+        if (analysisDuration == null || analysisDuration == 0) {
+            return 0;
+        }
+        return lineCount / (analysisDuration / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static double toSeconds(long duration) {
+        return duration / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    public synchronized void writePrometheus(Writer writer) throws IOException {
+        writeMetricHeader(writer, "phase_duration_seconds", "gauge", "Duration of each scan phase");
+        for (Map.Entry<String, Long> phaseDuration : phaseDurations.entrySet()) {
+            writer.write(METRIC_PREFIX + "phase_duration_seconds{phase=\"" + phaseDuration.getKey() + "\"} "
+                    + formatDouble(toSeconds(phaseDuration.getValue())) + "\n");
+        }
+        writeMetric(writer, "documents_analyzed", "gauge", "Documents analyzed by the inbuilt rules",
+                String.valueOf(documentCount));
+        writeMetric(writer, "lines_analyzed", "gauge", "Lines of the documents analyzed by the inbuilt rules",
+                String.valueOf(lineCount));
+        writeMetric(writer, "throughput_lines_per_second", "gauge", "Lines analyzed per second of analysis",
+                formatDouble(throughput()));
+        writeMetric(writer, "compilations", "gauge", "Package and module compilations performed",
+                String.valueOf(compilationCount));
+        writeMetricHeader(writer, "worker_idle_time_seconds", "gauge",
+                "Time each analysis thread waited for the other threads");
+        for (int worker = 0; worker < workerIdleTimes.size(); worker++) {
+            writer.write(METRIC_PREFIX + "worker_idle_time_seconds{worker=\"" + (worker + 1) + "\"} "
+                    + formatDouble(toSeconds(workerIdleTimes.get(worker))) + "\n");
+        }
+        writeMetricHeader(writer, "issues", "gauge", "Issues reported by severity and source");
+        for (Map.Entry<Severity, Long> severityCount : issuesBySeverity.entrySet()) {
+            writer.write(METRIC_PREFIX + "issues{severity=\"" + severityCount.getKey() + "\"} "
+                    + severityCount.getValue() + "\n");
+        }
+        for (Map.Entry<Source, Long> sourceCount : issuesBySource.entrySet()) {
+            writer.write(METRIC_PREFIX + "issues{source=\"" + sourceCount.getKey() + "\"} "
+                    + sourceCount.getValue() + "\n");
+        }
+        writeMetric(writer, "peak_heap_megabytes", "gauge", "Peak heap usage during the scan",
+                String.valueOf(peakHeapUsage));
+        writeMetric(writer, "gc_time_seconds", "gauge", "Time spent on garbage collection during the scan",
+                formatDouble(toSeconds(TimeUnit.MILLISECONDS.toNanos(gcTime))));
+    }
+
+    private static void writeMetric(Writer writer, String name, String type, String help, String value)
+            throws IOException {
+        writeMetricHeader(writer, name, type, help);
+        writer.write(METRIC_PREFIX + name + " " + value + "\n");
+    }
+
+    private static void writeMetricHeader(Writer writer, String name, String type, String help)
+            throws IOException {
+        writer.write("# HELP " + METRIC_PREFIX + name + " " + help + "\n");
+        writer.write("# TYPE " + METRIC_PREFIX + name + " " + type + "\n");
+    }
+
+    private static String formatDouble(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    public synchronized void writeJson(JsonWriter jsonWriter) throws IOException {
+        jsonWriter.beginObject();
+        jsonWriter.name("phaseDurationSeconds");
+        jsonWriter.beginObject();
+        for (Map.Entry<String, Long> phaseDuration : phaseDurations.entrySet()) {
+            jsonWriter.name(phaseDuration.getKey()).value(toSeconds(phaseDuration.getValue()));
+        }
+        jsonWriter.endObject();
+        jsonWriter.name("documentsAnalyzed").value(documentCount);
+        jsonWriter.name("linesAnalyzed").value(lineCount);
+        jsonWriter.name("throughputLinesPerSecond").value(throughput());
+        jsonWriter.name("compilations").value(compilationCount);
+        jsonWriter.name("workerIdleTimeSeconds");
+        jsonWriter.beginArray();
+        for (long workerIdleTime : workerIdleTimes) {
+            jsonWriter.value(toSeconds(workerIdleTime));
+        }
+        jsonWriter.endArray();
+        jsonWriter.name("issuesBySeverity");
+        jsonWriter.beginObject();
+        for (Map.Entry<Severity, Long> severityCount : issuesBySeverity.entrySet()) {
+            jsonWriter.name(severityCount.getKey().toString()).value(severityCount.getValue());
+        }
+        jsonWriter.endObject();
+        jsonWriter.name("issuesBySource");
+        jsonWriter.beginObject();
+        for (Map.Entry<Source, Long> sourceCount : issuesBySource.entrySet()) {
+            jsonWriter.name(sourceCount.getKey().toString()).value(sourceCount.getValue());
+        }
+        jsonWriter.endObject();
+        jsonWriter.name("peakHeapMegabytes").value(peakHeapUsage);
+        jsonWriter.name("gcTimeSeconds").value(toSeconds(TimeUnit.MILLISECONDS.toNanos(gcTime)));
+        jsonWriter.endObject();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Flight recorder event covering a single phase of a scan
+@Name("io.ballerina.scan.ScanPhase")
+@Label("Scan Phase")
+@Category({"Ballerina", "Scan"})
+@Description("A phase of a Ballerina scan, such as loading the project, analyzing it or generating the reports")
+public class ScanPhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Package")
+    String packageName;
+
+    @Label("Issue Count")
+    @Description("Number of issues reported during the phase")
+    long issueCount;
+
+    // Transient fields are not recorded, the start time is kept to report the phase durations in the metrics
+    transient long startTime;
+
+    // Starts timing a phase, the event is committed by the caller once the phase is over
+    static ScanPhaseEvent start(String phase, String packageName) {
+        ScanPhaseEvent event = new ScanPhaseEvent();
+        event.phase = phase;
+        event.packageName = packageName;
+        event.startTime = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    // Commits the event and returns the duration of the phase in nanoseconds
+    long finish() {
+        commit();
+        return System.nanoTime() - startTime;
+    }
+}
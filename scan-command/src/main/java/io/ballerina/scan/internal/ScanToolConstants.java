@@ -18,9 +18,18 @@
 
 package io.ballerina.scan.internal;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
 public class ScanToolConstants {
 
     static final String SCAN_COMMAND = "scan";
+    static final String SCAN_TOOL_PROPERTIES = "/scan-tool.properties";
+    static final String SCAN_TOOL_VERSION = loadScanToolVersion();
+    static final String DAEMON_FILE = "scan-daemon";
+    static final int SCAN_FAILED_EXIT_CODE = 1;
+    static final int ISSUE_THRESHOLD_EXCEEDED_EXIT_CODE = 2;
 
     // Internal and external issues constants
     public static final String MAIN_BAL = "main.bal";
@@ -30,6 +39,10 @@ public class ScanToolConstants {
     public static final String PATH_SEPARATOR = "/";
     public static final String TARGET_DIR_NAME = "target";
     public static final String RESULTS_JSON_FILE = "scan_results.json";
+    public static final String WORKSPACE_RESULTS_JSON_FILE = "workspace_scan_results.json";
+    public static final String SKIPPED_ANALYSES_JSON_FILE = "skipped_analyses.json";
+    public static final String RULE_PROFILE_JSON_FILE = "rule_profile.json";
+    public static final String SCAN_CACHE_FILE = "scan_cache.json";
     public static final String FILE_PROTOCOL = "file://";
     public static final String REPORT_DATA_PLACEHOLDER = "__data__";
 
@@ -52,4 +65,18 @@ public class ScanToolConstants {
 
     private ScanToolConstants() {
     }
+
+    // The version is generated from the scanToolVersion build property
+    private static String loadScanToolVersion() {
+        Properties properties = new Properties();
+        try (InputStream inputStream = ScanToolConstants.class.getResourceAsStream(SCAN_TOOL_PROPERTIES)) {
+            if (inputStream == null) {
+                throw new RuntimeException("The scan tool properties are missing from the scan tool JAR");
+            }
+            properties.load(inputStream);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        return properties.getProperty("version");
+    }
 }
@@ -18,22 +18,60 @@
 
 package io.ballerina.scan.internal;
 
+import io.ballerina.projects.Document;
 import io.ballerina.scan.Reporter;
 import io.ballerina.scan.Rule;
 import io.ballerina.scan.ScannerContext;
+import io.ballerina.scan.SyntaxNodeIndex;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 public class ScannerContextIml implements ScannerContext {
 
     private final ReporterIml reporter;
+    private final BitSet enabledRules;
+    private final IssueThreshold issueThreshold;
+    private final AtomicBoolean cancelled;
+    private final SyntaxNodeIndexCache syntaxNodeIndexCache;
 
-    ScannerContextIml(List<Rule> rules) {
-        this.reporter = new ReporterIml(rules);
+    // The analyzers are cancelled once the package compilation running them exceeds its time budget, only the issues
+    // reported on the analyzed documents are kept
+    ScannerContextIml(List<Rule> rules, BitSet enabledRules, IssueThreshold issueThreshold,
+                      AtomicBoolean cancelled, SyntaxNodeIndexCache syntaxNodeIndexCache, IssueTables issueTables,
+                      Predicate<Document> analyzedDocuments) {
+        this.reporter = new ReporterIml(rules, enabledRules, issueThreshold, cancelled, issueTables,
+                analyzedDocuments);
+        this.enabledRules = enabledRules;
+        this.issueThreshold = issueThreshold;
+        this.cancelled = cancelled;
+        this.syntaxNodeIndexCache = syntaxNodeIndexCache;
     }
 
     @Override
     public synchronized Reporter getReporter() {
+        checkCancelled(cancelled);
         return reporter;
     }
+
+    @Override
+    public boolean isRuleEnabled(int numericId) {
+        // Analyzers checking the enabled rules stop early once the issue threshold is exceeded
+        return numericId >= 0 && enabledRules.get(numericId) && !issueThreshold.isExceeded() && !cancelled.get();
+    }
+
+    @Override
+    public SyntaxNodeIndex getSyntaxNodeIndex(Document document) {
+        checkCancelled(cancelled);
+        return syntaxNodeIndexCache.getSyntaxNodeIndex(document);
+    }
+
+    // Fails the call of a cancelled analyzer, as the compiler running it cannot be interrupted
+    static void checkCancelled(AtomicBoolean cancelled) {
+        if (cancelled.get()) {
+            throw new AnalysisTimeoutException("The analyzer was cancelled after exceeding its time budget");
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// One of the N deterministic partitions of the documents of a package, so that a scan can be split across machines
+public class Shard {
+
+    private final int index;
+    private final int count;
+
+    Shard(int index, int count) {
+        this.index = index;
+        this.count = count;
+    }
+
+    // Parses a shard in the 'i/N' format, where the shard index i is between 1 and N
+    static Shard parse(String shard) {
+        String[] parts = shard.split("/", -1);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("The shard '" + shard + "' should be in the 'i/N' format.");
+        }
+
+        int index;
+        int count;
+        try {
+            index = Integer.parseInt(parts[0].trim());
+            count = Integer.parseInt(parts[1].trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("The shard '" + shard + "' should be in the 'i/N' format.");
+        }
+        if (count < 1 || index < 1 || index > count) {
+            throw new IllegalArgumentException("The shard index of '" + shard + "' should be between 1 and the "
+                    + "shard count.");
+        }
+        return new Shard(index, count);
+    }
+
+    int index() {
+        return index;
+    }
+
+    int count() {
+        return count;
+    }
+
+    String resultsFileName() {
+        return "scan_results_shard_" + index + "_of_" + count + ".json";
+    }
+
+    // Returns the documents of this shard in their original order. The documents are assigned largest first to the
+    // least loaded shard, which balances the shards by size and gives every shard the same partition as long as the
+    // documents do not change between them.
+    List<DocumentId> select(Project project, List<DocumentId> documentIds) {
+        if (count == 1) {
+            return documentIds;
+        }
+
+        Package currentPackage = project.currentPackage();
+        List<ShardDocument> documents = new ArrayList<>();
+        documentIds.forEach(documentId -> {
+            Document document = currentPackage.module(documentId.moduleId()).document(documentId);
+            Optional<Path> documentPath = project.documentPath(documentId);
+            String key = documentPath.map(path -> project.sourceRoot().relativize(path).toString())
+                    .orElse(document.module().moduleName() + "/" + document.name());
+            documents.add(new ShardDocument(documentId, key.replace('\\', '/'), size(document, documentPath)));
+        });
+        documents.sort(Comparator.comparingLong(ShardDocument::size).reversed()
+                .thenComparing(ShardDocument::key));
+
+        long[] shardSizes = new long[count];
+        Set<DocumentId> selectedDocumentIds = new HashSet<>();
+        documents.forEach(document -> {
+            int leastLoadedShard = 0;
+            for (int shard = 1; shard < count; shard++) {
+                if (shardSizes[shard] < shardSizes[leastLoadedShard]) {
+                    leastLoadedShard = shard;
+                }
+            }
+
+            // Empty documents still count towards the load so that they are spread across the shards
+            shardSizes[leastLoadedShard] += Math.max(document.size(), 1);
+            if (leastLoadedShard == index - 1) {
+                selectedDocumentIds.add(document.documentId());
+            }
+        });
+
+        return documentIds.stream().filter(selectedDocumentIds::contains).toList();
+    }
+
+    private static long size(Document document, Optional<Path> documentPath) {
+        if (documentPath.isPresent()) {
+            try {
+                return Files.size(documentPath.get());
+            } catch (IOException ex) {
+                // Fall back to the size of the loaded document
+            }
+        }
+        return document.textDocument().toString().length();
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+
+    private static class ShardDocument {
+
+        private final DocumentId documentId;
+        private final String key;
+        private final long size;
+
+        ShardDocument(DocumentId documentId, String key, long size) {
+            this.documentId = documentId;
+            this.key = key;
+            this.size = size;
+        }
+
+        DocumentId documentId() {
+            return documentId;
+        }
+
+        String key() {
+            return key;
+        }
+
+        long size() {
+            return size;
+        }
+    }
+}
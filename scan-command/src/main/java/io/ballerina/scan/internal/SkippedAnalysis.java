@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+// An analysis cancelled after exceeding its time budget, the ruleId is null when all rules were skipped
+public class SkippedAnalysis {
+
+    private final String ruleId;
+    private final String fileName;
+    private final String filePath;
+    private final long elapsedTime;
+    private final String reason;
+
+    SkippedAnalysis(String ruleId, String fileName, String filePath, long elapsedTime, String reason) {
+        this.ruleId = ruleId;
+        this.fileName = fileName;
+        this.filePath = filePath;
+        this.elapsedTime = elapsedTime;
+        this.reason = reason;
+    }
+
+    public String ruleId() {
+        return ruleId;
+    }
+
+    public String fileName() {
+        return fileName;
+    }
+
+    public String filePath() {
+        return filePath;
+    }
+
+    // Elapsed time in milliseconds
+    public long elapsedTime() {
+        return elapsedTime;
+    }
+
+    public String reason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return (ruleId != null ? ruleId + " on " : "") + fileName + " was skipped after " + elapsedTime + " ms: "
+                + reason;
+    }
+}
@@ -18,59 +18,200 @@
 
 package io.ballerina.scan.internal;
 
-import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.syntax.tree.CheckExpressionNode;
-import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeVisitor;
-import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.Document;
 
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
 public class StaticCodeAnalyzer extends NodeVisitor {
 
-    private final Document currentDocument;
+    private final Document document;
     private final SyntaxTree syntaxTree;
-    private final SemanticModel semanticModel;
-    private final InternalScannerContext scannerContext;
+    private final RuleDispatcher ruleDispatcher;
+    private final RuleContext ruleContext;
+    private final AnalysisBudget analysisBudget;
+    private final RuleProfiler ruleProfiler;
+    private final boolean measureRuleChecks;
+    private final Map<RuleCheck, RuleMeasurement> ruleMeasurements = new HashMap<>();
+    private final Set<RuleCheck> skippedRuleChecks = new HashSet<>();
+    private volatile long startTime = 0;
+    private boolean complete = true;
+
+    // The running rule check is watched from another thread when the analysis has a time budget, as a rule check
+    // which does not return is never cut off between the node checks
+    private final boolean watched;
+    private volatile RuleCheck runningRuleCheck = null;
+    private volatile long runningCheckStartTime = 0;
+    private boolean abandoned = false;
 
     public StaticCodeAnalyzer(Document currentDocument,
                               SyntaxTree syntaxTree,
-                              SemanticModel semanticModel,
                               InternalScannerContext scannerContext) {
-        this.currentDocument = currentDocument;
+        this.document = currentDocument;
         this.syntaxTree = syntaxTree;
-        this.semanticModel = semanticModel;
-        this.scannerContext = scannerContext;
+        this.ruleDispatcher = scannerContext.getRuleDispatcher();
+        this.analysisBudget = scannerContext.getAnalysisBudget();
+        this.ruleProfiler = scannerContext.getRuleProfiler();
+        this.ruleContext = new RuleContext(currentDocument, syntaxTree, scannerContext.getCompilationCache(),
+                scannerContext.getReporter(), ruleProfiler);
+        this.measureRuleChecks = analysisBudget.hasRuleBudget() || ruleProfiler != null;
+        this.watched = analysisBudget.hasRuleBudget() || analysisBudget.hasDocumentBudget();
     }
 
     public void initialize() {
-        // Go with the following approach similar to CodeAnalyzer
-        this.visit((ModulePartNode) syntaxTree.rootNode());
+        startTime = System.nanoTime();
+        try {
+            // Go with the following approach similar to CodeAnalyzer
+            this.visit((ModulePartNode) syntaxTree.rootNode());
+        } catch (DocumentBudgetExceededException ex) {
+            complete = false;
+            recordSkipped(null, System.nanoTime() - startTime, "The document exceeded its time budget of "
+                    + TimeUnit.NANOSECONDS.toMillis(analysisBudget.documentBudget()) + " ms");
+        }
+
+        if (ruleProfiler != null && !isAbandoned()) {
+            ruleMeasurements.forEach((ruleCheck, measurement) -> {
+                ruleProfiler.recordDocument(InbuiltRules.ruleId(ruleCheck.numericId()), measurement.elapsedTime,
+                        measurement.visitedNodes);
+            });
+        }
+    }
 
-        // Other method to start the visit
-        // mainNode.accept(this);
+    // Whether all rule checks completed on the document within their time budgets
+    boolean isComplete() {
+        return complete;
     }
 
     @Override
-    public void visit(FunctionSignatureNode functionSignatureNode) {
-        // Perform the analysis
-        int parameterCount = functionSignatureNode.parameters().size();
-        int allowedParametersLimit = 7;
-        if (parameterCount > allowedParametersLimit) {
-            // Report issue
-            scannerContext.getReporter().reportIssue(currentDocument, functionSignatureNode.location(), 107);
+    protected void visitSyntaxNode(Node node) {
+        if (analysisBudget.hasDocumentBudget() && System.nanoTime() - startTime > analysisBudget.documentBudget()) {
+            throw new DocumentBudgetExceededException();
+        }
+
+        // Dispatch the node only to the rule checks registered for its kind
+        for (RuleCheck ruleCheck : ruleDispatcher.ruleChecks(node.kind())) {
+            if (!measureRuleChecks) {
+                check(ruleCheck, node);
+                continue;
+            }
+
+            // Measure the rule checks only when a rule budget or profiling is configured
+            if (skippedRuleChecks.contains(ruleCheck)) {
+                continue;
+            }
+            long checkStartTime = System.nanoTime();
+            check(ruleCheck, node);
+            RuleMeasurement measurement = ruleMeasurements.computeIfAbsent(ruleCheck,
+                    key -> new RuleMeasurement());
+            measurement.elapsedTime += System.nanoTime() - checkStartTime;
+            measurement.visitedNodes++;
+            if (analysisBudget.hasRuleBudget() && measurement.elapsedTime > analysisBudget.ruleBudget()) {
+                skipRuleCheck(ruleCheck, measurement.elapsedTime, "The rule exceeded its time budget of "
+                        + TimeUnit.NANOSECONDS.toMillis(analysisBudget.ruleBudget()) + " ms");
+            }
         }
 
         // Continue visiting other nodes of the syntax tree
-        this.visitSyntaxNode(functionSignatureNode);
+        super.visitSyntaxNode(node);
     }
 
-    @Override
-    public void visit(CheckExpressionNode checkExpressionNode) {
-        if (checkExpressionNode.checkKeyword().kind().equals(SyntaxKind.CHECKPANIC_KEYWORD)) {
-            // Report the issue
-            scannerContext.getReporter().reportIssue(currentDocument, checkExpressionNode.location(), 108);
+    private void check(RuleCheck ruleCheck, Node node) {
+        if (skippedRuleChecks.contains(ruleCheck)) {
+            return;
+        }
+
+        ruleContext.setCurrentRule(ruleCheck.numericId());
+        if (watched) {
+            runningCheckStartTime = System.nanoTime();
+            runningRuleCheck = ruleCheck;
+        }
+        try {
+            ruleCheck.check(node, ruleContext);
+        } catch (AnalysisTimeoutException ex) {
+            // The semantic model is not available after an external analyzer was abandoned along with its compilation
+            skipRuleCheck(ruleCheck, 0, ex.getMessage());
+        } finally {
+            runningRuleCheck = null;
+        }
+    }
+
+    // Abandons the analysis once the document or the running rule check overruns its budget by the grace period,
+    // called by the thread watching the analysis. The skipped analysis is recorded here, as the abandoned thread may
+    // never return.
+    synchronized boolean abandonIfOverrun(long gracePeriod) {
+        long analysisStartTime = startTime;
+        if (abandoned || analysisStartTime == 0) {
+            return abandoned;
+        }
+
+        long currentTime = System.nanoTime();
+        long elapsedTime = currentTime - analysisStartTime;
+        if (analysisBudget.hasDocumentBudget() && elapsedTime > analysisBudget.documentBudget() + gracePeriod) {
+            abandoned = true;
+            analysisBudget.recordSkipped(skippedAnalysis(null, elapsedTime, "The document did not complete within "
+                    + "its time budget of " + TimeUnit.NANOSECONDS.toMillis(analysisBudget.documentBudget())
+                    + " ms, its analysis was abandoned"));
+            return true;
+        }
+
+        RuleCheck ruleCheck = runningRuleCheck;
+        long checkTime = currentTime - runningCheckStartTime;
+        if (analysisBudget.hasRuleBudget() && ruleCheck != null
+                && checkTime > analysisBudget.ruleBudget() + gracePeriod) {
+            abandoned = true;
+            analysisBudget.recordSkipped(skippedAnalysis(InbuiltRules.ruleId(ruleCheck.numericId()), checkTime,
+                    "The rule did not return within its time budget of "
+                            + TimeUnit.NANOSECONDS.toMillis(analysisBudget.ruleBudget())
+                            + " ms, the analysis of the document was abandoned"));
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized boolean isAbandoned() {
+        return abandoned;
+    }
+
+    private void skipRuleCheck(RuleCheck ruleCheck, long elapsedTime, String reason) {
+        skippedRuleChecks.add(ruleCheck);
+        complete = false;
+        recordSkipped(InbuiltRules.ruleId(ruleCheck.numericId()), elapsedTime, reason);
+    }
+
+    // The analyses skipped by an abandoned thread are not recorded, the abandonment was recorded instead
+    private synchronized void recordSkipped(String ruleId, long elapsedTime, String reason) {
+        if (!abandoned) {
+            analysisBudget.recordSkipped(skippedAnalysis(ruleId, elapsedTime, reason));
+        }
+    }
+
+    private SkippedAnalysis skippedAnalysis(String ruleId, long elapsedTime, String reason) {
+        String fileName = document.module().moduleName() + ScanToolConstants.PATH_SEPARATOR + document.name();
+        String filePath = document.module().project().documentPath(document.documentId())
+                .orElse(Path.of(document.name())).toString();
+        return new SkippedAnalysis(ruleId, fileName, filePath, TimeUnit.NANOSECONDS.toMillis(elapsedTime), reason);
+    }
+
+    private static class RuleMeasurement {
+
+        private long elapsedTime;
+        private long visitedNodes;
+    }
+
+    private static class DocumentBudgetExceededException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        DocumentBudgetExceededException() {
+            super(null, null, false, false);
         }
     }
 }
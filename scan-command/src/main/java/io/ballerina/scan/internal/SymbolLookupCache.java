@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.tools.diagnostics.Location;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Memoizes the semantic model lookups of a module for the duration of a scan, so that the rules looking up the same
+// node share a single lookup
+public class SymbolLookupCache {
+
+    private static final LookupRecorder NO_RECORDING = hit -> {
+    };
+
+    private final SemanticModel semanticModel;
+    private final Map<NodeKey, Optional<Symbol>> symbols = new ConcurrentHashMap<>();
+    private final Map<NodeKey, Optional<TypeSymbol>> types = new ConcurrentHashMap<>();
+    private final Map<NodeKey, List<Location>> references = new ConcurrentHashMap<>();
+
+    SymbolLookupCache(SemanticModel semanticModel) {
+        this.semanticModel = semanticModel;
+    }
+
+    SemanticModel semanticModel() {
+        return semanticModel;
+    }
+
+    Optional<Symbol> symbol(DocumentId documentId, Node node, LookupRecorder lookupRecorder) {
+        return lookup(symbols, new NodeKey(documentId, node), key -> semanticModel.symbol(node), lookupRecorder);
+    }
+
+    Optional<TypeSymbol> typeOf(DocumentId documentId, Node node, LookupRecorder lookupRecorder) {
+        return lookup(types, new NodeKey(documentId, node), key -> semanticModel.typeOf(node), lookupRecorder);
+    }
+
+    // The references of the symbol of the node, the symbol lookup itself is shared with symbol() but only the
+    // references lookup is recorded
+    List<Location> references(DocumentId documentId, Node node, LookupRecorder lookupRecorder) {
+        return lookup(references, new NodeKey(documentId, node), key -> lookup(symbols, key,
+                symbolKey -> semanticModel.symbol(node), NO_RECORDING)
+                .map(semanticModel::references)
+                .orElse(List.of()), lookupRecorder);
+    }
+
+    private static <T> T lookup(Map<NodeKey, T> cache, NodeKey key, Function<NodeKey, T> resolver,
+                                LookupRecorder lookupRecorder) {
+        T value = cache.get(key);
+        if (value != null) {
+            lookupRecorder.record(true);
+            return value;
+        }
+
+        // Concurrent lookups of the same node may both miss, the first result is retained
+        lookupRecorder.record(false);
+        T resolvedValue = resolver.apply(key);
+        T previousValue = cache.putIfAbsent(key, resolvedValue);
+        return previousValue != null ? previousValue : resolvedValue;
+    }
+
+    interface LookupRecorder {
+
+        void record(boolean hit);
+    }
+
+    // Nodes are identified by their position, as the same node may be reached through different node instances
+    private static class NodeKey {
+
+        private final DocumentId documentId;
+        private final int startOffset;
+        private final int length;
+        private final SyntaxKind kind;
+
+        NodeKey(DocumentId documentId, Node node) {
+            this.documentId = documentId;
+            this.startOffset = node.textRange().startOffset();
+            this.length = node.textRange().length();
+            this.kind = node.kind();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof NodeKey nodeKey)) {
+                return false;
+            }
+            return startOffset == nodeKey.startOffset && length == nodeKey.length && kind == nodeKey.kind
+                    && documentId.equals(nodeKey.documentId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(documentId, startOffset, length, kind);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// The syntax node indexes shared by the external analyzers, so that each document is indexed once however many
+// analyzers ask for it. The indexes are only held for the package compilation running the analyzers.
+public class SyntaxNodeIndexCache {
+
+    private final Map<DocumentId, SyntaxNodeIndexIml> syntaxNodeIndexes = new HashMap<>();
+
+    synchronized SyntaxNodeIndexIml getSyntaxNodeIndex(Document document) {
+        // A modified document has a new syntax tree, which replaces the index of the previous one
+        SyntaxTree syntaxTree = document.syntaxTree();
+        SyntaxNodeIndexIml syntaxNodeIndex = syntaxNodeIndexes.get(document.documentId());
+        if (syntaxNodeIndex == null || syntaxNodeIndex.syntaxTree() != syntaxTree) {
+            syntaxNodeIndex = new SyntaxNodeIndexIml(syntaxTree);
+            syntaxNodeIndexes.put(document.documentId(), syntaxNodeIndex);
+        }
+        return syntaxNodeIndex;
+    }
+
+    synchronized void clear() {
+        syntaxNodeIndexes.clear();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Document;
+import io.ballerina.scan.SyntaxNodeIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class SyntaxNodeIndexIml implements SyntaxNodeIndex {
+
+    private final SyntaxTree syntaxTree;
+
+    // Only the kinds present in the document are indexed, the tree is traversed on the first lookup
+    private Map<SyntaxKind, List<Node>> nodesByKind = null;
+
+    SyntaxNodeIndexIml(SyntaxTree syntaxTree) {
+        this.syntaxTree = syntaxTree;
+    }
+
+    // Indexes the current syntax tree of the document without sharing the index
+    public static SyntaxNodeIndex of(Document document) {
+        return new SyntaxNodeIndexIml(document.syntaxTree());
+    }
+
+    SyntaxTree syntaxTree() {
+        return syntaxTree;
+    }
+
+    @Override
+    public synchronized List<Node> nodes(SyntaxKind syntaxKind) {
+        if (nodesByKind == null) {
+            NodeCollector nodeCollector = new NodeCollector();
+            nodeCollector.visit((ModulePartNode) syntaxTree.rootNode());
+            nodesByKind = nodeCollector.nodesByKind;
+        }
+        return nodesByKind.getOrDefault(syntaxKind, Collections.emptyList());
+    }
+
+    private static class NodeCollector extends NodeVisitor {
+
+        private final Map<SyntaxKind, List<Node>> nodesByKind = new EnumMap<>(SyntaxKind.class);
+
+        @Override
+        protected void visitSyntaxNode(Node node) {
+            nodesByKind.computeIfAbsent(node.kind(), kind -> new ArrayList<>()).add(node);
+            super.visitSyntaxNode(node);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+
+import java.util.List;
+
+public class TooManyParametersCheck implements RuleCheck {
+
+    private static final int ALLOWED_PARAMETERS_LIMIT = 7;
+
+    @Override
+    public int numericId() {
+        return 107;
+    }
+
+    @Override
+    public List<SyntaxKind> syntaxKinds() {
+        return List.of(SyntaxKind.FUNCTION_SIGNATURE);
+    }
+
+    @Override
+    public boolean requiresSemanticModel() {
+        return false;
+    }
+
+    @Override
+    public void check(Node node, RuleContext ruleContext) {
+        FunctionSignatureNode functionSignatureNode = (FunctionSignatureNode) node;
+        if (functionSignatureNode.parameters().size() > ALLOWED_PARAMETERS_LIMIT) {
+            ruleContext.reportIssue(functionSignatureNode.location(), numericId());
+        }
+    }
+}
@@ -0,0 +1,375 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.EnvironmentBuilder;
+import io.ballerina.projects.environment.ProjectEnvironmentBuilder;
+import io.ballerina.projects.util.ProjectUtils;
+import io.ballerina.scan.Issue;
+import io.ballerina.scan.IssueSink;
+import io.ballerina.scan.utilities.ScanTomlFile;
+import io.ballerina.scan.utilities.ScanUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.ballerina.projects.util.ProjectConstants.BALLERINA_TOML;
+import static io.ballerina.projects.util.ProjectConstants.REPORT_DIR_NAME;
+import static io.ballerina.scan.internal.ScanToolConstants.TARGET_DIR_NAME;
+import static io.ballerina.scan.internal.ScanToolConstants.WORKSPACE_RESULTS_JSON_FILE;
+
+// Scans all packages of a workspace in a single process. The packages are spread over one project environment per
+// analysis thread, each guarded by its own compiler lock. The packages sharing an environment share its package
+// cache, so that a dependency is resolved and compiled once per environment rather than once per package, while the
+// packages of different environments are still compiled in parallel. The distribution, the dependency repositories
+// on disk and the analyzer class loaders are shared by all packages of the process.
+public class WorkspaceScanner {
+
+    private final PrintStream outputStream;
+    private final int threads;
+    private final boolean incremental;
+    private final boolean lowMemory;
+    private final boolean scanReport;
+    private final List<String> includeRules;
+    private final List<String> excludeRules;
+    private final long ruleTimeout;
+    private final long documentTimeout;
+    private final boolean profile;
+
+    WorkspaceScanner(PrintStream outputStream, int threads, boolean incremental, boolean lowMemory,
+                     boolean scanReport, List<String> includeRules, List<String> excludeRules,
+                     long ruleTimeout, long documentTimeout, boolean profile) {
+        this.outputStream = outputStream;
+        this.threads = threads;
+        this.incremental = incremental;
+        this.lowMemory = lowMemory;
+        this.scanReport = scanReport;
+        this.includeRules = List.copyOf(includeRules);
+        this.excludeRules = List.copyOf(excludeRules);
+        this.ruleTimeout = ruleTimeout;
+        this.documentTimeout = documentTimeout;
+        this.profile = profile;
+    }
+
+    // Returns false when a package of the workspace could not be analyzed
+    boolean scan(Path workspaceRoot) {
+        List<Path> packagePaths = findPackages(workspaceRoot);
+        if (packagePaths.isEmpty()) {
+            outputStream.println("No Ballerina packages were found in the workspace " + workspaceRoot + ".");
+            return true;
+        }
+        outputStream.println("Found " + packagePaths.size() + " Ballerina package(s) in the workspace.");
+
+        // A compiler environment is not thread safe, sharing one between all packages would serialize every load
+        // and compilation of the workspace behind a single lock. The package cache of an environment is bound to
+        // its compiler context, so it is shared by the packages assigned to the environment.
+        int environmentCount = Math.min(threads, packagePaths.size());
+        List<WorkspaceEnvironment> environments = new ArrayList<>(environmentCount);
+        for (int i = 0; i < environmentCount; i++) {
+            environments.add(new WorkspaceEnvironment());
+        }
+
+        ForkJoinPool analysisPool = new ForkJoinPool(threads);
+        List<PackageScan> packageScans = new ArrayList<>();
+        try {
+            List<LoadedPackage> loadedPackages = analysisPool.submit(() -> IntStream.range(0, packagePaths.size())
+                    .parallel()
+                    .mapToObj(i -> loadPackage(packagePaths.get(i), environments.get(i % environmentCount)))
+                    .toList()).get();
+            for (LoadedPackage loadedPackage : loadedPackages) {
+                if (loadedPackage.packageScan != null) {
+                    packageScans.add(loadedPackage.packageScan);
+                } else {
+                    outputStream.println(loadedPackage.skipMessage);
+                }
+            }
+
+            // A package failing to analyze is reported in its own section, the other packages are still scanned
+            outputStream.println();
+            outputStream.println("Running Scans...");
+            analysisPool.submit(() -> packageScans.parallelStream().forEach(this::analyzePackage)).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        } catch (ExecutionException ex) {
+            throw new RuntimeException(ex.getCause());
+        } finally {
+            analysisPool.shutdown();
+        }
+
+        // Print a section for each package in the order the packages were found
+        int failedPackageCount = 0;
+        for (PackageScan packageScan : packageScans) {
+            outputStream.println();
+            outputStream.println("Package " + packageScan.packageName + " (" + packageScan.packagePath + "):");
+            if (packageScan.failureMessage != null) {
+                outputStream.println("Error: The package could not be analyzed: " + packageScan.failureMessage);
+                failedPackageCount++;
+                continue;
+            }
+            ConsoleIssueSink consoleSink = ScanUtils.printToConsole(outputStream);
+            packageScan.issues.forEach(consoleSink::accept);
+            consoleSink.complete();
+            ScanUtils.printSkippedAnalyses(outputStream, packageScan.projectAnalyzer.getSkippedAnalyses());
+            if (profile) {
+                outputStream.println("Rule profile:");
+                ScanUtils.printRuleProfilesToConsole(packageScan.projectAnalyzer.getRuleProfiler().rankedProfiles(),
+                        outputStream);
+            }
+        }
+
+        Path workspaceResultsPath = saveWorkspaceResults(workspaceRoot, packageScans);
+        outputStream.println();
+        outputStream.println("View workspace scan results at:");
+        outputStream.println("\t" + workspaceResultsPath + "\n");
+
+        if (scanReport) {
+            outputStream.println("View the scan reports of the packages at:");
+            packageScans.stream()
+                    .filter(packageScan -> packageScan.failureMessage == null)
+                    .forEach(packageScan -> outputStream.println("\t" + ScanToolConstants.FILE_PROTOCOL
+                            + packageScan.reportDirectory.resolve(ScanToolConstants.RESULTS_HTML_FILE)));
+            outputStream.println();
+        }
+
+        if (failedPackageCount > 0) {
+            outputStream.println("Error: " + failedPackageCount + " of " + packageScans.size()
+                    + " package(s) could not be analyzed.");
+            return false;
+        }
+        return true;
+    }
+
+    // Returns the root directories of the packages in the workspace, nested directories of a package are skipped
+    static List<Path> findPackages(Path workspaceRoot) {
+        List<Path> packagePaths = new ArrayList<>();
+        findPackages(workspaceRoot.toAbsolutePath().normalize(), packagePaths);
+        return packagePaths;
+    }
+
+    private static void findPackages(Path directory, List<Path> packagePaths) {
+        if (Files.isRegularFile(directory.resolve(BALLERINA_TOML))) {
+            packagePaths.add(directory);
+            return;
+        }
+
+        List<Path> subDirectories;
+        try (Stream<Path> paths = Files.list(directory)) {
+            subDirectories = paths.filter(Files::isDirectory)
+                    .filter(path -> {
+                        Path fileName = path.getFileName();
+                        return fileName != null && !fileName.toString().startsWith(".")
+                                && !fileName.toString().equals(TARGET_DIR_NAME);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException ex) {
+            return;
+        }
+        subDirectories.forEach(subDirectory -> findPackages(subDirectory, packagePaths));
+    }
+
+    private LoadedPackage loadPackage(Path packagePath, WorkspaceEnvironment workspaceEnvironment) {
+        try {
+            // The lock guards every use of the environment, which is shared with the other packages assigned to it
+            Object compilerLock = workspaceEnvironment.compilerLock;
+            ScanTomlFile scanTomlFile;
+            Project project;
+            synchronized (compilerLock) {
+                ScanPhaseEvent projectLoadEvent = ScanPhaseEvent.start("project-load", null);
+                project = BuildProject.load(ProjectEnvironmentBuilder.getBuilder(workspaceEnvironment.environment),
+                        packagePath);
+                projectLoadEvent.packageName = project.currentPackage().packageName().toString();
+                projectLoadEvent.commit();
+                if (ProjectUtils.isProjectEmpty(project)) {
+                    return LoadedPackage.skipped("Skipping the empty package " + packagePath + ".");
+                }
+                scanTomlFile = ScanUtils.retrieveScanTomlConfigurations(project, outputStream);
+            }
+            if (scanTomlFile == null) {
+                return LoadedPackage.skipped("Skipping the package " + packagePath
+                        + " with invalid scan configurations.");
+            }
+
+            RuleFilter ruleFilter = RuleFilter.from(scanTomlFile, includeRules, excludeRules);
+            ProjectAnalyzer projectAnalyzer = new ProjectAnalyzer(scanTomlFile, ruleFilter, 1, incremental,
+                    lowMemory, compilerLock);
+            projectAnalyzer.setTimeBudgets(ruleTimeout, documentTimeout);
+            if (profile) {
+                projectAnalyzer.enableProfiling();
+            }
+            synchronized (compilerLock) {
+                projectAnalyzer.engageExternalAnalyzers(project);
+            }
+            return new LoadedPackage(new PackageScan(project, projectAnalyzer), null);
+        } catch (RuntimeException ex) {
+            return LoadedPackage.skipped("Skipping the package " + packagePath + ": " + ex.getMessage());
+        }
+    }
+
+    private void analyzePackage(PackageScan packageScan) {
+        // Each package also gets its own results in its target directory
+        CompositeIssueSink issueSink = new CompositeIssueSink(packageScan.packageName);
+        issueSink.add(ScanUtils.saveToDirectory(packageScan.reportDirectory), "results-saving");
+        if (scanReport) {
+            issueSink.add(ScanUtils.generateScanReport(packageScan.project, packageScan.reportDirectory),
+                    "report-generation");
+        }
+        issueSink.add(new IssueSink() {
+            @Override
+            public void accept(Issue issue) {
+                packageScan.issues.add(issue);
+            }
+
+            @Override
+            public void complete() {
+            }
+        }, "issue-collection");
+
+        // A failed analysis leaves the results of the previous scan of the package in place
+        try {
+            ScanPhaseEvent analysisEvent = ScanPhaseEvent.start("analysis", packageScan.packageName);
+            packageScan.projectAnalyzer.analyzeProject(packageScan.project, issueSink);
+            analysisEvent.issueCount = issueSink.issueCount();
+            analysisEvent.commit();
+
+            ScanPhaseEvent externalIssuesEvent = ScanPhaseEvent.start("external-issue-reporting",
+                    packageScan.packageName);
+            long inbuiltIssueCount = issueSink.issueCount();
+            packageScan.projectAnalyzer.reportExternalIssues(issueSink);
+            externalIssuesEvent.issueCount = issueSink.issueCount() - inbuiltIssueCount;
+            externalIssuesEvent.commit();
+            issueSink.complete();
+        } catch (RuntimeException | Error ex) {
+            // Errors such as a LinkageError of an analyzer JAR only fail the package
+            issueSink.abort();
+            packageScan.failureMessage = ex.getMessage() != null ? ex.getMessage() : ex.toString();
+            return;
+        }
+
+        List<SkippedAnalysis> skippedAnalyses = packageScan.projectAnalyzer.getSkippedAnalyses();
+        if (!skippedAnalyses.isEmpty()) {
+            ScanUtils.saveSkippedAnalyses(packageScan.reportDirectory, skippedAnalyses);
+        }
+        if (profile) {
+            ScanUtils.saveRuleProfiles(packageScan.reportDirectory,
+                    packageScan.projectAnalyzer.getRuleProfiler().rankedProfiles());
+        }
+    }
+
+    private static Path saveWorkspaceResults(Path workspaceRoot, List<PackageScan> packageScans) {
+        Path reportDirectory = workspaceRoot.resolve(TARGET_DIR_NAME).resolve(REPORT_DIR_NAME);
+        Path workspaceResultsPath = reportDirectory.resolve(WORKSPACE_RESULTS_JSON_FILE);
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try {
+            Files.createDirectories(reportDirectory);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    Files.newOutputStream(workspaceResultsPath), StandardCharsets.UTF_8))) {
+                JsonWriter jsonWriter = gson.newJsonWriter(writer);
+                jsonWriter.beginArray();
+                for (PackageScan packageScan : packageScans) {
+                    jsonWriter.beginObject();
+                    jsonWriter.name("packageName").value(packageScan.packageName);
+                    jsonWriter.name("packagePath").value(packageScan.packagePath.toString());
+                    if (packageScan.failureMessage != null) {
+                        jsonWriter.name("error").value(packageScan.failureMessage);
+                        jsonWriter.endObject();
+                        continue;
+                    }
+                    jsonWriter.name("issues");
+                    jsonWriter.beginArray();
+                    for (Issue issue : packageScan.issues) {
+                        gson.toJson(issue, issue.getClass(), jsonWriter);
+                    }
+                    jsonWriter.endArray();
+                    jsonWriter.endObject();
+                }
+                jsonWriter.endArray();
+                jsonWriter.flush();
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        return workspaceResultsPath;
+    }
+
+    // Either the loaded package or the reason the package is skipped
+    private static class LoadedPackage {
+
+        private final PackageScan packageScan;
+        private final String skipMessage;
+
+        LoadedPackage(PackageScan packageScan, String skipMessage) {
+            this.packageScan = packageScan;
+            this.skipMessage = skipMessage;
+        }
+
+        static LoadedPackage skipped(String skipMessage) {
+            return new LoadedPackage(null, skipMessage);
+        }
+    }
+
+    // An environment with its compiler lock, shared by the packages assigned to it
+    private static class WorkspaceEnvironment {
+
+        private final Environment environment = EnvironmentBuilder.buildDefault();
+        private final Object compilerLock = new Object();
+    }
+
+    private static class PackageScan {
+
+        private final Project project;
+        private final ProjectAnalyzer projectAnalyzer;
+        private final String packageName;
+        private final Path packagePath;
+        private final Path reportDirectory;
+        private final IssueStore issues;
+
+        // Set when the analysis of the package failed, the issues reported before the failure are discarded
+        private String failureMessage = null;
+
+        PackageScan(Project project, ProjectAnalyzer projectAnalyzer) {
+            this.project = project;
+            this.projectAnalyzer = projectAnalyzer;
+            this.issues = new IssueStore(projectAnalyzer.issueTables());
+            this.packageName = project.currentPackage().packageOrg() + "/" + project.currentPackage().packageName();
+            this.packagePath = project.sourceRoot();
+            this.reportDirectory = ScanUtils.getReportDirectory(project, null);
+            projectAnalyzer.setReportDirectory(reportDirectory);
+        }
+    }
+}
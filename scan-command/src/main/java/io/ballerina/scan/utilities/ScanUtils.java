@@ -19,17 +19,24 @@ package io.ballerina.scan.utilities;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import io.ballerina.projects.BallerinaToml;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.TomlDocument;
 import io.ballerina.projects.internal.model.Target;
 import io.ballerina.scan.Issue;
+import io.ballerina.scan.IssueSink;
 import io.ballerina.scan.Rule;
+import io.ballerina.scan.internal.ConsoleIssueSink;
 import io.ballerina.scan.internal.IssueIml;
+import io.ballerina.scan.internal.IssueStore;
+import io.ballerina.scan.internal.IssueTables;
+import io.ballerina.scan.internal.JsonIssueSink;
+import io.ballerina.scan.internal.RuleProfiler;
+import io.ballerina.scan.internal.ScanMetrics;
 import io.ballerina.scan.internal.ScanToolConstants;
+import io.ballerina.scan.internal.SkippedAnalysis;
 import io.ballerina.toml.api.Toml;
 import io.ballerina.toml.semantic.TomlType;
 import io.ballerina.toml.semantic.ast.TomlArrayValueNode;
@@ -37,10 +44,13 @@ import io.ballerina.toml.semantic.ast.TomlValueNode;
 import io.ballerina.tools.text.LineRange;
 import org.apache.commons.io.FileUtils;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintStream;
@@ -48,18 +58,26 @@ import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
+import static io.ballerina.projects.util.ProjectConstants.BLANG_SOURCE_EXT;
 import static io.ballerina.projects.util.ProjectConstants.LOCAL_REPOSITORY_NAME;
 import static io.ballerina.projects.util.ProjectConstants.REPORT_DIR_NAME;
 import static io.ballerina.scan.internal.ScanToolConstants.ANALYZER_TABLE;
@@ -67,29 +85,21 @@ import static io.ballerina.scan.internal.ScanToolConstants.CUSTOM_RULES_COMPILER
 import static io.ballerina.scan.internal.ScanToolConstants.JAR_PREDICATE;
 import static io.ballerina.scan.internal.ScanToolConstants.PLATFORM_TABLE;
 import static io.ballerina.scan.internal.ScanToolConstants.RESULTS_JSON_FILE;
+import static io.ballerina.scan.internal.ScanToolConstants.RULE_PROFILE_JSON_FILE;
 import static io.ballerina.scan.internal.ScanToolConstants.RULES_TABLE;
 import static io.ballerina.scan.internal.ScanToolConstants.SCAN_FILE;
 import static io.ballerina.scan.internal.ScanToolConstants.SCAN_FILE_FIELD;
 import static io.ballerina.scan.internal.ScanToolConstants.SCAN_TABLE;
+import static io.ballerina.scan.internal.ScanToolConstants.SKIPPED_ANALYSES_JSON_FILE;
 import static io.ballerina.scan.internal.ScanToolConstants.TARGET_DIR_NAME;
 
 public class ScanUtils {
 
-    private static final PrintStream outputStream = System.out;
-
     private ScanUtils() {
     }
 
-    public static void printToConsole(List<Issue> issues) {
-        String jsonOutput = convertIssuesToJsonString(issues);
-        outputStream.println();
-        outputStream.println(jsonOutput);
-    }
-
-    private static String convertIssuesToJsonString(List<Issue> issues) {
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        JsonArray issuesAsJson = gson.toJsonTree(issues).getAsJsonArray();
-        return gson.toJson(issuesAsJson);
+    public static ConsoleIssueSink printToConsole(PrintStream outputStream) {
+        return new ConsoleIssueSink(outputStream);
     }
 
     private static Target getTargetPath(Project project, String directoryName) {
@@ -128,144 +138,246 @@ public class ScanUtils {
         return target;
     }
 
-    public static Path saveToDirectory(List<Issue> issues, Project project, String directoryName) {
+    public static Path getReportDirectory(Project project, String directoryName) {
         // Create folder to save issues to
         Target target = getTargetPath(project, directoryName);
-
-        // Retrieve path where report is saved
-        Path jsonFilePath;
         try {
-            Path reportPath = target.getReportPath();
+            return target.getReportPath();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
 
-            // Convert the issues to a json string
-            String jsonOutput = convertIssuesToJsonString(issues);
+    public static void printSkippedAnalyses(PrintStream outputStream, List<SkippedAnalysis> skippedAnalyses) {
+        if (skippedAnalyses.isEmpty()) {
+            return;
+        }
 
-            // Create the file to save the analysis issues to
-            File jsonFile = new File(reportPath.resolve(RESULTS_JSON_FILE).toString());
+        outputStream.println("Skipped analyses: " + skippedAnalyses.size());
+        skippedAnalyses.forEach(skippedAnalysis -> outputStream.println("\t" + skippedAnalysis));
+    }
 
-            // Write results to file and return saved file path
-            try (FileOutputStream fileOutputStream = new FileOutputStream(jsonFile)) {
-                try (Writer writer = new OutputStreamWriter(fileOutputStream, StandardCharsets.UTF_8)) {
-                    writer.write(new String(jsonOutput.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
-                    writer.close();
+    public static Path saveSkippedAnalyses(Path reportDirectory, List<SkippedAnalysis> skippedAnalyses) {
+        Path skippedAnalysesPath = reportDirectory.resolve(SKIPPED_ANALYSES_JSON_FILE);
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try {
+            Files.createDirectories(reportDirectory);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    Files.newOutputStream(skippedAnalysesPath), StandardCharsets.UTF_8))) {
+                gson.toJson(skippedAnalyses, writer);
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        return skippedAnalysesPath;
+    }
+
+    public static Path saveRuleProfiles(Path reportDirectory, List<RuleProfiler.RuleProfile> ruleProfiles) {
+        Path ruleProfilesPath = reportDirectory.resolve(RULE_PROFILE_JSON_FILE);
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try {
+            Files.createDirectories(reportDirectory);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    Files.newOutputStream(ruleProfilesPath), StandardCharsets.UTF_8))) {
+                gson.toJson(ruleProfiles, writer);
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        return ruleProfilesPath;
+    }
 
-                    jsonFilePath = jsonFile.toPath();
+    public static void saveScanMetrics(Path metricsPath, ScanMetrics scanMetrics) {
+        Path fileName = metricsPath.getFileName();
+        boolean json = fileName != null && fileName.toString().endsWith(".json");
+        try {
+            Path parentDirectory = metricsPath.toAbsolutePath().getParent();
+            if (parentDirectory != null) {
+                Files.createDirectories(parentDirectory);
+            }
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    Files.newOutputStream(metricsPath), StandardCharsets.UTF_8))) {
+                if (json) {
+                    JsonWriter jsonWriter = new GsonBuilder().setPrettyPrinting().create().newJsonWriter(writer);
+                    scanMetrics.writeJson(jsonWriter);
+                    jsonWriter.flush();
+                } else {
+                    scanMetrics.writePrometheus(writer);
                 }
             }
         } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
+    }
 
-        return jsonFilePath;
+    public static IssueSink saveToDirectory(Path reportDirectory) {
+        return saveToDirectory(reportDirectory, RESULTS_JSON_FILE);
     }
 
-    // Save scan results in the HTML template
-    public static Path generateScanReport(List<Issue> issues, Project project, String directoryName) {
-        // Convert existing issues to the structure required by the scan report
-        JsonObject jsonScannedProject = new JsonObject();
-        jsonScannedProject.addProperty("projectName", project.currentPackage().packageName().toString());
-
-        Map<String, JsonObject> jsonScanReportPathAndFile = new HashMap<>();
-        issues.forEach((issue) -> {
-            // Cast to issue implementation to access additional info
-            IssueIml issueIml = (IssueIml) issue;
-            String filePath = issueIml.filePath();
-            if (!jsonScanReportPathAndFile.containsKey(filePath)) {
-                JsonObject jsonScanReportFile = new JsonObject();
-
-                jsonScanReportFile.addProperty("fileName", issueIml.fileName());
-                jsonScanReportFile.addProperty("filePath", filePath);
-
-                // Get the contents of the file through a file reader
-                String fileContent = "";
+    public static IssueSink saveToDirectory(Path reportDirectory, String resultsFileName) {
+        // Write the issues to a temporary file as they are reported, so that a failed scan leaves the results of
+        // the previous scan in place
+        Path jsonFile = reportDirectory.resolve(resultsFileName);
+        Path temporaryFile;
+        Writer writer;
+        try {
+            Files.createDirectories(reportDirectory);
+            temporaryFile = Files.createTempFile(reportDirectory, resultsFileName, ".tmp");
+            writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+
+        JsonIssueSink jsonIssueSink;
+        try {
+            jsonIssueSink = new JsonIssueSink(writer);
+        } catch (RuntimeException ex) {
+            discard(writer, temporaryFile);
+            throw ex;
+        }
+        return new IssueSink() {
+            @Override
+            public void accept(Issue issue) {
+                jsonIssueSink.accept(issue);
+            }
+
+            @Override
+            public void complete() {
                 try {
-                    fileContent = Files.readString(Path.of(filePath));
+                    jsonIssueSink.complete();
+                    writer.close();
+                    moveIntoPlace(temporaryFile, jsonFile);
                 } catch (IOException ex) {
                     throw new RuntimeException(ex);
+                } finally {
+                    discard(writer, temporaryFile);
                 }
-                jsonScanReportFile.addProperty("fileContent", fileContent);
-
-                JsonObject jsonScanReportIssueTextRange = new JsonObject();
-                LineRange lineRange = issueIml.location().lineRange();
-                jsonScanReportIssueTextRange.addProperty("startLine", lineRange.startLine().line());
-                jsonScanReportIssueTextRange.addProperty("startLineOffset", lineRange.startLine().offset());
-                jsonScanReportIssueTextRange.addProperty("endLine", lineRange.endLine().line());
-                jsonScanReportIssueTextRange.addProperty("endLineOffset", lineRange.endLine().offset());
-
-                JsonObject jsonScanReportIssue = new JsonObject();
-                jsonScanReportIssue.addProperty("ruleID", issueIml.rule().id());
-                jsonScanReportIssue.addProperty("issueSeverity", issueIml.rule().severity().toString());
-                jsonScanReportIssue.addProperty("issueType", issueIml.source().toString());
-                jsonScanReportIssue.addProperty("message", issueIml.rule().description());
-                jsonScanReportIssue.add("textRange", jsonScanReportIssueTextRange);
-
-                JsonArray jsonIssues = new JsonArray();
-                jsonIssues.add(jsonScanReportIssue);
-                jsonScanReportFile.add("issues", jsonIssues);
-
-                jsonScanReportPathAndFile.put(filePath, jsonScanReportFile);
-            } else {
-                JsonObject jsonScanReportFile = jsonScanReportPathAndFile.get(filePath);
-
-                JsonObject jsonScanReportIssueTextRange = new JsonObject();
-                LineRange lineRange = issueIml.location().lineRange();
-                jsonScanReportIssueTextRange.addProperty("startLine", lineRange.startLine().line());
-                jsonScanReportIssueTextRange.addProperty("startLineOffset", lineRange.startLine().offset());
-                jsonScanReportIssueTextRange.addProperty("endLine", lineRange.endLine().line());
-                jsonScanReportIssueTextRange.addProperty("endLineOffset", lineRange.endLine().offset());
-
-                JsonObject jsonScanReportIssue = new JsonObject();
-                jsonScanReportIssue.addProperty("ruleID", issueIml.rule().id());
-                jsonScanReportIssue.addProperty("issueSeverity", issueIml.rule().severity().toString());
-                jsonScanReportIssue.addProperty("issueType", issueIml.source().toString());
-                jsonScanReportIssue.addProperty("message", issueIml.rule().description());
-                jsonScanReportIssue.add("textRange", jsonScanReportIssueTextRange);
-
-                JsonArray jsonIssues = jsonScanReportFile.getAsJsonArray("issues");
-                jsonIssues.add(jsonScanReportIssue);
-
-                jsonScanReportFile.add("issues", jsonIssues);
-                jsonScanReportPathAndFile.put(filePath, jsonScanReportFile);
             }
-        });
 
-        JsonArray jsonScannedFiles = new JsonArray();
-        jsonScanReportPathAndFile.values().forEach(jsonScannedFiles::add);
-        jsonScannedProject.add("scannedFiles", jsonScannedFiles);
+            @Override
+            public void abort() {
+                discard(writer, temporaryFile);
+            }
+        };
+    }
 
-        // Get the JSON Output of the issues
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        String jsonOutput = gson.toJson(jsonScannedProject);
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
 
-        // Dump to the scan html report
-        // Get the current target directory
-        Target target = getTargetPath(project, directoryName);
+    // Closes the writer and deletes the temporary file, the failure that led here is the one reported
+    private static void discard(Writer writer, Path temporaryFile) {
+        try {
+            writer.close();
+        } catch (IOException ignored) {
+            // The temporary file is deleted regardless
+        }
+        try {
+            Files.deleteIfExists(temporaryFile);
+        } catch (IOException ignored) {
+            // A temporary file left behind does not replace the results
+        }
+    }
 
+    // Save scan results in the HTML template
+    public static IssueSink generateScanReport(Project project, Path reportDirectory) {
+        // The issues of each scanned file are retained in compact issue stores sharing the tables of the report, the
+        // report structure and the file contents are only produced while the report is written
+        IssueTables issueTables = new IssueTables();
+        Map<String, IssueStore> scannedFileIssues = new LinkedHashMap<>();
+        return new IssueSink() {
+            @Override
+            public void accept(Issue issue) {
+                // Cast to issue implementation to access additional info
+                IssueIml issueIml = (IssueIml) issue;
+                scannedFileIssues.computeIfAbsent(issueIml.filePath(), filePath -> new IssueStore(issueTables))
+                        .add(issue);
+            }
+
+            @Override
+            public void complete() {
+                writeScanReport(project, reportDirectory, scannedFileIssues);
+            }
+        };
+    }
+
+    private static void writeScanReport(Project project, Path reportDirectory,
+                                        Map<String, IssueStore> scannedFileIssues) {
         // Access the inner JAR zip
         InputStream innerJarStream = ScanUtils.class.getResourceAsStream("/report.zip");
-        String content;
-        File htmlFile = null;
         try {
-            unzipReportResources(innerJarStream, target.getReportPath().toFile());
+            unzipReportResources(innerJarStream, reportDirectory.toFile());
 
             // Read all content in the html file
-            content = Files.readString(target.getReportPath().resolve(ScanToolConstants.RESULTS_HTML_FILE));
-
-            // Replace __data__ placeholder in the html file
-            content = content.replace(ScanToolConstants.REPORT_DATA_PLACEHOLDER, jsonOutput);
-
-            // Overwrite the html file
-            htmlFile = new File(target.getReportPath().resolve(ScanToolConstants.RESULTS_HTML_FILE).toString());
-            FileOutputStream fileOutputStream = new FileOutputStream(htmlFile);
-            try (Writer writer = new OutputStreamWriter(fileOutputStream, StandardCharsets.UTF_8)) {
-                writer.write(new String(content.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+            Path htmlFile = reportDirectory.resolve(ScanToolConstants.RESULTS_HTML_FILE);
+            String content = Files.readString(htmlFile);
+
+            // Overwrite the html file, writing the issues in the structure required by the scan report in place of
+            // the __data__ placeholder
+            int placeholderIndex = content.indexOf(ScanToolConstants.REPORT_DATA_PLACEHOLDER);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(htmlFile),
+                    StandardCharsets.UTF_8))) {
+                if (placeholderIndex < 0) {
+                    writer.write(content);
+                    return;
+                }
+                writer.write(content, 0, placeholderIndex);
+                JsonWriter jsonWriter = new GsonBuilder().setPrettyPrinting().create().newJsonWriter(writer);
+                writeScannedProject(jsonWriter, project, scannedFileIssues);
+                jsonWriter.flush();
+                int dataEndIndex = placeholderIndex + ScanToolConstants.REPORT_DATA_PLACEHOLDER.length();
+                writer.write(content, dataEndIndex, content.length() - dataEndIndex);
             }
         } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
+    }
 
-        // Return the file path
-        return htmlFile.toPath();
+    private static void writeScannedProject(JsonWriter jsonWriter, Project project,
+                                            Map<String, IssueStore> scannedFileIssues) throws IOException {
+        jsonWriter.beginObject();
+        jsonWriter.name("projectName").value(project.currentPackage().packageName().toString());
+        jsonWriter.name("scannedFiles");
+        jsonWriter.beginArray();
+        for (Map.Entry<String, IssueStore> scannedFile : scannedFileIssues.entrySet()) {
+            IssueStore issues = scannedFile.getValue();
+            jsonWriter.beginObject();
+            jsonWriter.name("fileName").value(((IssueIml) issues.get(0)).fileName());
+            jsonWriter.name("filePath").value(scannedFile.getKey());
+
+            // Get the contents of the file through a file reader
+            jsonWriter.name("fileContent").value(Files.readString(Path.of(scannedFile.getKey())));
+            jsonWriter.name("issues");
+            jsonWriter.beginArray();
+            for (Issue issue : issues) {
+                writeScanReportIssue(jsonWriter, issue);
+            }
+            jsonWriter.endArray();
+            jsonWriter.endObject();
+        }
+        jsonWriter.endArray();
+        jsonWriter.endObject();
+    }
+
+    private static void writeScanReportIssue(JsonWriter jsonWriter, Issue issue) throws IOException {
+        jsonWriter.beginObject();
+        jsonWriter.name("ruleID").value(issue.rule().id());
+        jsonWriter.name("issueSeverity").value(issue.rule().severity().toString());
+        jsonWriter.name("issueType").value(issue.source().toString());
+        jsonWriter.name("message").value(issue.rule().description());
+        jsonWriter.name("textRange");
+        LineRange lineRange = issue.location().lineRange();
+        jsonWriter.beginObject();
+        jsonWriter.name("startLine").value(lineRange.startLine().line());
+        jsonWriter.name("startLineOffset").value(lineRange.startLine().offset());
+        jsonWriter.name("endLine").value(lineRange.endLine().line());
+        jsonWriter.name("endLineOffset").value(lineRange.endLine().offset());
+        jsonWriter.endObject();
+        jsonWriter.endObject();
     }
 
     private static void unzipReportResources(InputStream source, File target) throws IOException {
@@ -294,42 +406,139 @@ public class ScanUtils {
         }
     }
 
-    public static void printRulesToConsole(List<Rule> rules) {
+    public static void printRulesToConsole(List<Rule> rules, PrintStream outputStream) {
         // Define the table columns
-        String ruleIDColumn = "RuleID";
-        String ruleSeverityColumn = "Rule Severity";
-        String ruleDescriptionColumn = "Rule Description";
+        String[] columns = {"RuleID", "Rule Severity", "Rule Description"};
+        List<String[]> rows = new ArrayList<>();
+        for (Rule rule : rules) {
+            rows.add(new String[]{rule.id(), rule.severity().toString(), rule.description()});
+        }
+        printTable(columns, rows, outputStream);
+    }
 
-        // Find the maximum length of each column
-        int maxRuleIDLength = ruleIDColumn.length();
-        int maxSeverityLength = ruleSeverityColumn.length();
-        int maxDescriptionLength = ruleDescriptionColumn.length();
+    public static void printRuleProfilesToConsole(List<RuleProfiler.RuleProfile> ruleProfiles,
+                                                  PrintStream outputStream) {
+        // Define the table columns
+        String[] columns = {"RuleID", "Time (ms)", "Nodes Visited", "Documents", "Issues", "Symbol Hits",
+                "Symbol Misses"};
+        List<String[]> rows = new ArrayList<>();
+        for (RuleProfiler.RuleProfile ruleProfile : ruleProfiles) {
+            rows.add(new String[]{ruleProfile.ruleId(), String.valueOf(ruleProfile.elapsedTime()),
+                    String.valueOf(ruleProfile.visitedNodes()), String.valueOf(ruleProfile.documents()),
+                    String.valueOf(ruleProfile.issues()), String.valueOf(ruleProfile.symbolLookupHits()),
+                    String.valueOf(ruleProfile.symbolLookupMisses())});
+        }
+        printTable(columns, rows, outputStream);
+    }
 
+    private static void printTable(String[] columns, List<String[]> rows, PrintStream outputStream) {
         // Find the maximum length of each column
-        for (Rule rule : rules) {
-            maxRuleIDLength = Math.max(maxRuleIDLength, rule.id().length());
-            maxSeverityLength = Math.max(maxSeverityLength, rule.severity().toString().length());
-            maxDescriptionLength = Math.max(maxDescriptionLength, rule.description().length());
+        int[] maxLengths = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            maxLengths[i] = columns[i].length();
+        }
+        for (String[] row : rows) {
+            for (int i = 0; i < columns.length; i++) {
+                maxLengths[i] = Math.max(maxLengths[i], row[i].length());
+            }
         }
 
         // Create the format string
-        String format = "\t%-" + maxRuleIDLength + "s | %-" + maxSeverityLength + "s | %-" + maxDescriptionLength
-                + "s%n";
+        StringBuilder format = new StringBuilder("\t");
+        StringBuilder separator = new StringBuilder("\t");
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                format.append(" | ");
+                separator.append("--");
+            }
+            format.append("%-").append(maxLengths[i]).append("s");
+            separator.append("-".repeat(maxLengths[i] + 1));
+        }
+        format.append("%n");
+        separator.append("%n");
 
         // Print the headers
-        outputStream.printf(format, ruleIDColumn, ruleSeverityColumn, ruleDescriptionColumn);
-        outputStream.printf("\t" + "-".repeat(maxRuleIDLength + 1) + "--" +
-                "-".repeat(maxSeverityLength + 1) + "--" + "-".repeat(maxDescriptionLength + 1) + "%n");
+        outputStream.printf(format.toString(), (Object[]) columns);
+        outputStream.printf(separator.toString());
 
-        // Print the rules
-        for (Rule rule : rules) {
-            outputStream.printf(format, rule.id(), rule.severity().toString(), rule.description());
+        // Print the rows
+        for (String[] row : rows) {
+            outputStream.printf(format.toString(), (Object[]) row);
         }
 
         outputStream.println();
     }
 
-    public static ScanTomlFile retrieveScanTomlConfigurations(Project project) {
+    // Returns the real paths of the Ballerina files changed since the merge base of the given git reference, or null
+    // if the changes could not be retrieved from the local git repository. Deleted files are left out.
+    public static Set<Path> getChangedFiles(Path projectRoot, String gitRef) {
+        Path workingDirectory = Files.isDirectory(projectRoot) ? projectRoot : projectRoot.toAbsolutePath().getParent();
+        if (workingDirectory == null) {
+            return null;
+        }
+
+        List<String> repositoryRoot = runGitCommand(workingDirectory, "rev-parse", "--show-toplevel");
+        // The reference is user input, a reference starting with '-' must not be parsed as an option
+        List<String> mergeBase = runGitCommand(workingDirectory, "merge-base", "--end-of-options", gitRef, "HEAD");
+        if (repositoryRoot == null || repositoryRoot.isEmpty() || mergeBase == null || mergeBase.isEmpty()) {
+            return null;
+        }
+
+        // Include committed, uncommitted and untracked changes since the merge base
+        List<String> changedFiles = runGitCommand(workingDirectory, "-c", "core.quotePath=false", "diff",
+                "--name-only", "--end-of-options", mergeBase.get(0).trim());
+        List<String> untrackedFiles = runGitCommand(workingDirectory, "-c", "core.quotePath=false", "ls-files",
+                "--others", "--exclude-standard", "--full-name");
+        if (changedFiles == null || untrackedFiles == null) {
+            return null;
+        }
+
+        // The repository root is reported with the symbolic links resolved, e.g. /private/var instead of /var on
+        // macOS, so the changed files are compared with the documents through their real paths
+        Path repositoryPath = Path.of(repositoryRoot.get(0).trim());
+        Set<Path> changedBalFiles = new HashSet<>();
+        Stream.concat(changedFiles.stream(), untrackedFiles.stream())
+                .filter(changedFile -> changedFile.endsWith(BLANG_SOURCE_EXT))
+                .map(repositoryPath::resolve)
+                .filter(Files::exists)
+                .forEach(changedFile -> changedBalFiles.add(toRealPath(changedFile)));
+        return changedBalFiles;
+    }
+
+    // Resolves the symbolic links of an existing path, the normalized absolute path is returned otherwise
+    public static Path toRealPath(Path path) {
+        try {
+            return path.toRealPath();
+        } catch (IOException ex) {
+            return path.toAbsolutePath().normalize();
+        }
+    }
+
+    private static List<String> runGitCommand(Path workingDirectory, String... arguments) {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(Arrays.asList(arguments));
+
+        ProcessBuilder processBuilder = new ProcessBuilder(command);
+        processBuilder.directory(workingDirectory.toFile());
+        processBuilder.redirectError(ProcessBuilder.Redirect.DISCARD);
+        try {
+            Process process = processBuilder.start();
+            List<String> outputLines;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                    StandardCharsets.UTF_8))) {
+                outputLines = reader.lines().filter(line -> !line.isBlank()).toList();
+            }
+            return process.waitFor() == 0 ? outputLines : null;
+        } catch (IOException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    public static ScanTomlFile retrieveScanTomlConfigurations(Project project, PrintStream outputStream) {
         Path root = project.sourceRoot();
 
         if (project.kind().equals(ProjectKind.BUILD_PROJECT)) {
@@ -358,11 +567,11 @@ public class ScanUtils {
                         Optional<Path> absPath = path.isEmpty() || path.get().isAbsolute() ? path
                                 : Optional.of(root.resolve(scanTomlPath));
                         if (isLocalFile(absPath)) {
-                            return loadScanFile(root, absPath.get());
+                            return loadScanFile(root, absPath.get(), outputStream);
                         } else {
                             try {
                                 URL url = new URL(scanTomlPath);
-                                return loadRemoteScanFile(root, url);
+                                return loadRemoteScanFile(root, url, outputStream);
                             } catch (MalformedURLException ex) {
                                 throw new RuntimeException(ex);
                             }
@@ -374,12 +583,12 @@ public class ScanUtils {
                 }
 
                 // Try to find a 'Scan.toml' file in the default project
-                Path scanTomlFilePath = Path.of(SCAN_FILE);
+                Path scanTomlFilePath = root.resolve(SCAN_FILE);
                 if (Files.exists(scanTomlFilePath)) {
                     outputStream.println("Loading scan tool configurations from "
                             + scanTomlFilePath.toString()
                             + "...");
-                    return loadScanFile(root, scanTomlFilePath);
+                    return loadScanFile(root, scanTomlFilePath, outputStream);
                 }
 
                 // If there is no local 'Scan.toml' file then load an empty in memory scan toml configuration
@@ -402,12 +611,13 @@ public class ScanUtils {
         return path.isPresent() && new File(path.get().toString()).exists();
     }
 
-    private static ScanTomlFile loadRemoteScanFile(Path root, URL remoteScanTomlFilePath) {
+    private static ScanTomlFile loadRemoteScanFile(Path root, URL remoteScanTomlFilePath,
+                                                  PrintStream outputStream) {
         //  2. If 'Scan.toml' is already available in cache load it from there
         Path cachePath = root.resolve(TARGET_DIR_NAME).resolve(REPORT_DIR_NAME).resolve(SCAN_FILE);
         if (Files.exists(cachePath)) {
             outputStream.println("Loading scan tool configurations from cache...");
-            return loadScanFile(root, cachePath);
+            return loadScanFile(root, cachePath, outputStream);
         }
 
         // 3. download and copy configurations from remote to a local 'Scan.toml' and load configurations
@@ -419,10 +629,10 @@ public class ScanUtils {
 
         // Load file from cache
         outputStream.println("Loading scan tool configurations from " + remoteScanTomlFilePath.toString());
-        return loadScanFile(root, cachePath);
+        return loadScanFile(root, cachePath, outputStream);
     }
 
-    private static ScanTomlFile loadScanFile(Path root, Path scanTomlFilePath) {
+    private static ScanTomlFile loadScanFile(Path root, Path scanTomlFilePath, PrintStream outputStream) {
         // Parse the toml document
         Toml scanTomlDocumentContent;
         try {
@@ -449,7 +659,7 @@ public class ScanUtils {
                 if (!(new File(path).exists())) {
                     try {
                         URL url = new URL(path);
-                        path = loadRemoteJAR(root, name, url);
+                        path = loadRemoteJAR(root, name, url, outputStream);
                     } catch (MalformedURLException ex) {
                         throw new RuntimeException(ex);
                     }
@@ -497,6 +707,7 @@ public class ScanUtils {
         // [rules]
         // include = ["B101", "ballerina/io:B107"]
         // exclude = ["B101", "ballerina/io:B107"]
+        // Globs such as "ballerina/*:*" and severities such as "severity>=BUG" are also accepted
         Toml rulesTable = scanTomlDocumentContent.getTable(RULES_TABLE).orElse(null);
         if (rulesTable != null) {
             // Get rules to include
@@ -539,7 +750,8 @@ public class ScanUtils {
         return scanTomlFile;
     }
 
-    private static String loadRemoteJAR(Path root, String fileName, URL remoteJarFile) {
+    private static String loadRemoteJAR(Path root, String fileName, URL remoteJarFile,
+                                        PrintStream outputStream) {
 
         Path cachedJarPath = root.resolve(TARGET_DIR_NAME).resolve(fileName + JAR_PREDICATE);
         if (Files.exists(cachedJarPath)) {
@@ -5,6 +5,8 @@ module io.ballerina.scan {
     requires io.ballerina.parser;
     requires io.ballerina.tools.api;
     requires info.picocli;
+    requires java.management;
+    requires jdk.jfr;
     requires com.google.gson;
     requires io.ballerina.toml;
     requires org.apache.commons.io;
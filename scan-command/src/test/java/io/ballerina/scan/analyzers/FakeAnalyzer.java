@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.analyzers;
+
+import io.ballerina.scan.ScannerContext;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Stands in for an external analyzer run by the compiler, its package tells its frames apart from the scan tool
+public class FakeAnalyzer {
+
+    private FakeAnalyzer() {
+    }
+
+    // Analyzes until the duration elapses, calling its scanner context like an analyzer reporting issues
+    public static void analyze(ScannerContext scannerContext, long durationMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        while (System.nanoTime() < deadline) {
+            scannerContext.getReporter();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    // Does not return until it is released, like an analyzer stuck in a loop which ignores the cancellation
+    public static void hang(CountDownLatch released) {
+        while (released.getCount() > 0) {
+            try {
+                released.await();
+            } catch (InterruptedException ex) {
+                // The interruptions are ignored
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.projects.util.ProjectConstants.BALLERINA_TOML;
+import static io.ballerina.projects.util.ProjectConstants.REPORT_DIR_NAME;
+import static io.ballerina.scan.internal.ScanToolConstants.MAIN_BAL;
+import static io.ballerina.scan.internal.ScanToolConstants.RESULTS_JSON_FILE;
+import static io.ballerina.scan.internal.ScanToolConstants.SCAN_FILE;
+import static io.ballerina.scan.internal.ScanToolConstants.TARGET_DIR_NAME;
+
+// Runs the scan command in-process on copies of the bal-scan-tool-tester package
+public class ScanTestUtils {
+
+    private static final Path TESTER_PACKAGE = Path.of("bal-scan-tool-tester");
+    private static final Type LIST_OF_ISSUES_TYPE = new TypeToken<ArrayList<IssueIml>>() {
+    }.getType();
+
+    private ScanTestUtils() {
+    }
+
+    // Copies the tester package without its analyzers, which would have to be pulled from the central repository
+    static Path copyTesterPackage(Path packageDirectory) {
+        try {
+            Files.createDirectories(packageDirectory);
+            Files.copy(TESTER_PACKAGE.resolve(BALLERINA_TOML), packageDirectory.resolve(BALLERINA_TOML),
+                    StandardCopyOption.REPLACE_EXISTING);
+            Files.copy(TESTER_PACKAGE.resolve(MAIN_BAL), packageDirectory.resolve(MAIN_BAL),
+                    StandardCopyOption.REPLACE_EXISTING);
+            Files.writeString(packageDirectory.resolve(SCAN_FILE), "# Only the inbuilt rules are analyzed\n",
+                    StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        return packageDirectory;
+    }
+
+    // Adds documents of different sizes to the package, the i-th document repeats the tester document i times
+    static List<Path> addTesterDocuments(Path packageDirectory, int documentCount) {
+        List<Path> documentPaths = new ArrayList<>();
+        try {
+            String testerDocument = Files.readString(TESTER_PACKAGE.resolve(MAIN_BAL), StandardCharsets.UTF_8);
+            for (int i = 1; i <= documentCount; i++) {
+                Path documentPath = packageDirectory.resolve("tester_" + i + ".bal");
+                Files.writeString(documentPath, testerDocument.repeat(i), StandardCharsets.UTF_8);
+                documentPaths.add(documentPath);
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        return documentPaths;
+    }
+
+    // The scans are not forwarded to a running scan daemon
+    static ScanResult scan(Path workingDirectory, String... arguments) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream outputStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+        ScanCmd scanCmd = new ScanCmd(outputStream, null, workingDirectory);
+        List<String> scanArguments = new ArrayList<>(List.of(arguments));
+        scanArguments.add("--no-daemon");
+        new CommandLine(scanCmd).parseArgs(scanArguments.toArray(new String[0]));
+        scanCmd.execute();
+        outputStream.flush();
+        return new ScanResult(output.toString(StandardCharsets.UTF_8), scanCmd.exitCode());
+    }
+
+    static Path resultsFile(Path packageDirectory) {
+        return packageDirectory.resolve(TARGET_DIR_NAME).resolve(REPORT_DIR_NAME).resolve(RESULTS_JSON_FILE);
+    }
+
+    // The saved results as they are written, for comparing the results of scans issue by issue and in order
+    static String readResults(Path resultsFile) {
+        try {
+            return Files.readString(resultsFile, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    static List<IssueIml> readIssues(Path resultsFile) {
+        try (Reader reader = Files.newBufferedReader(resultsFile, StandardCharsets.UTF_8)) {
+            return new Gson().fromJson(reader, LIST_OF_ISSUES_TYPE);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    // The issues as they are saved, sorted so that the results of scans reporting in a different order compare equal
+    static List<String> sortedIssues(Path resultsFile) {
+        Gson gson = new Gson();
+        List<String> issues = new ArrayList<>();
+        readIssues(resultsFile).forEach(issue -> issues.add(gson.toJson(issue)));
+        issues.sort(null);
+        return issues;
+    }
+
+    static class ScanResult {
+
+        private final String output;
+        private final int exitCode;
+
+        ScanResult(String output, int exitCode) {
+            this.output = output;
+            this.exitCode = exitCode;
+        }
+
+        String output() {
+            return output;
+        }
+
+        int exitCode() {
+            return exitCode;
+        }
+    }
+}
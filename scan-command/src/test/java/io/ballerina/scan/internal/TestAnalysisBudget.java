@@ -0,0 +1,189 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.scan.analyzers.FakeAnalyzer;
+import io.ballerina.scan.utilities.ScanTomlFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+// Runs analyses exceeding their time budgets, the analyzers which do not stop are abandoned after the grace period
+public class TestAnalysisBudget {
+
+    private static final long RUN_BUDGET = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long GRACE_PERIOD = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final long MAX_ANALYSIS_MILLIS = 10000;
+
+    @TempDir
+    Path packageDirectory;
+
+    @Test
+    void test_slow_external_analyzer_is_skipped_on_its_own() {
+        Project project = loadTesterProject();
+        AnalysisBudget analysisBudget = new AnalysisBudget(100, 0);
+        ExternalAnalyzer slowAnalyzer = externalAnalyzer("slow/analyzer", FakeAnalyzer.class.getName());
+        ExternalAnalyzer quickAnalyzer = externalAnalyzer("quick/analyzer", "org.example.quick.QuickPlugin");
+        ExternalAnalysisWatchdog watchdog = new ExternalAnalysisWatchdog(List.of(slowAnalyzer, quickAnalyzer),
+                analysisBudget, RUN_BUDGET, GRACE_PERIOD, project);
+
+        // The compiler runs the next analyzer once the cancelled analyzer fails
+        boolean completed = watchdog.watch(() -> {
+            try {
+                FakeAnalyzer.analyze(slowAnalyzer.scannerContext(), MAX_ANALYSIS_MILLIS);
+            } catch (AnalysisTimeoutException ex) {
+                // The compiler reports the failure of the analyzer
+            }
+            quickAnalyzer.scannerContext().getReporter();
+        });
+
+        Assertions.assertTrue(completed);
+        Assertions.assertTrue(slowAnalyzer.isCancelled());
+        Assertions.assertFalse(quickAnalyzer.isCancelled());
+        List<SkippedAnalysis> skippedAnalyses = analysisBudget.skippedAnalyses();
+        Assertions.assertEquals(1, skippedAnalyses.size());
+        Assertions.assertEquals("slow/analyzer", skippedAnalyses.get(0).ruleId());
+        Assertions.assertTrue(skippedAnalyses.get(0).reason().contains("exceeded its time budget of 100 ms"),
+                skippedAnalyses.get(0).reason());
+    }
+
+    @Test
+    void test_hung_external_analyzer_is_abandoned_with_its_compilation() {
+        Project project = loadTesterProject();
+        AnalysisBudget analysisBudget = new AnalysisBudget(100, 0);
+        ExternalAnalyzer hungAnalyzer = externalAnalyzer("hung/analyzer", FakeAnalyzer.class.getName());
+        ExternalAnalyzer quickAnalyzer = externalAnalyzer("quick/analyzer", "org.example.quick.QuickPlugin");
+        ExternalAnalysisWatchdog watchdog = new ExternalAnalysisWatchdog(List.of(hungAnalyzer, quickAnalyzer),
+                analysisBudget, RUN_BUDGET, GRACE_PERIOD, project);
+
+        CountDownLatch released = new CountDownLatch(1);
+        try {
+            long startTime = System.nanoTime();
+            Assertions.assertFalse(watchdog.watch(() -> FakeAnalyzer.hang(released)));
+            Assertions.assertTrue(System.nanoTime() - startTime < TimeUnit.MILLISECONDS.toNanos(MAX_ANALYSIS_MILLIS));
+        } finally {
+            released.countDown();
+        }
+
+        // The results of every analyzer run by the abandoned compilation are incomplete
+        Assertions.assertTrue(hungAnalyzer.isCancelled());
+        Assertions.assertTrue(quickAnalyzer.isCancelled());
+        List<SkippedAnalysis> skippedAnalyses = analysisBudget.skippedAnalyses();
+        Assertions.assertEquals(2, skippedAnalyses.size());
+        Assertions.assertEquals("hung/analyzer", skippedAnalyses.get(0).ruleId());
+        Assertions.assertEquals("quick/analyzer", skippedAnalyses.get(1).ruleId());
+        Assertions.assertTrue(skippedAnalyses.get(1).reason().contains("abandoned as hung/analyzer did not stop"),
+                skippedAnalyses.get(1).reason());
+    }
+
+    @Test
+    void test_compilation_time_is_not_charged_to_the_external_analyzers() {
+        Project project = loadTesterProject();
+        AnalysisBudget analysisBudget = new AnalysisBudget(100, 0);
+        ExternalAnalyzer analyzer = externalAnalyzer("some/analyzer", FakeAnalyzer.class.getName());
+        ExternalAnalysisWatchdog watchdog = new ExternalAnalysisWatchdog(List.of(analyzer), analysisBudget,
+                RUN_BUDGET, GRACE_PERIOD, project);
+
+        // Only the compiler runs for longer than the budget of an analyzer run
+        Assertions.assertTrue(watchdog.watch(() -> LockSupport.parkNanos(RUN_BUDGET * 3)));
+        Assertions.assertFalse(analyzer.isCancelled());
+        Assertions.assertTrue(analysisBudget.skippedAnalyses().isEmpty());
+    }
+
+    @Test
+    void test_hung_inbuilt_rule_check_is_abandoned() {
+        Project project = loadTesterProject();
+        Module module = project.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+        CountDownLatch released = new CountDownLatch(1);
+        RuleCheck hungCheck = new RuleCheck() {
+            @Override
+            public int numericId() {
+                return 1;
+            }
+
+            @Override
+            public List<SyntaxKind> syntaxKinds() {
+                return List.of(SyntaxKind.FUNCTION_DEFINITION);
+            }
+
+            @Override
+            public boolean requiresSemanticModel() {
+                return false;
+            }
+
+            @Override
+            public void check(Node node, RuleContext ruleContext) {
+                FakeAnalyzer.hang(released);
+            }
+        };
+
+        AnalysisBudget analysisBudget = new AnalysisBudget(100, 0);
+        InternalScannerContext scannerContext = new InternalScannerContext(new IssueStore(),
+                InbuiltRules.INBUILT_RULES, new CompilationCache(), new RuleDispatcher(List.of(hungCheck)),
+                analysisBudget, null);
+        ScanTomlFile scanTomlFile = new ScanTomlFile();
+        ProjectAnalyzer projectAnalyzer = new ProjectAnalyzer(scanTomlFile,
+                RuleFilter.from(scanTomlFile, Collections.emptyList(), Collections.emptyList()), 1, false, false);
+        try {
+            long startTime = System.nanoTime();
+            Assertions.assertFalse(projectAnalyzer.analyzeDocument(document, scannerContext));
+            Assertions.assertTrue(System.nanoTime() - startTime < TimeUnit.MILLISECONDS.toNanos(MAX_ANALYSIS_MILLIS));
+        } finally {
+            released.countDown();
+        }
+
+        Assertions.assertTrue(scannerContext.isAbandoned());
+        Assertions.assertTrue(projectAnalyzer.isAnalysisAbandoned());
+        List<SkippedAnalysis> skippedAnalyses = analysisBudget.skippedAnalyses();
+        Assertions.assertEquals(1, skippedAnalyses.size());
+        Assertions.assertEquals(InbuiltRules.ruleId(1), skippedAnalyses.get(0).ruleId());
+        Assertions.assertTrue(skippedAnalyses.get(0).reason().contains("did not return within its time budget"),
+                skippedAnalyses.get(0).reason());
+    }
+
+    private Project loadTesterProject() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        return BuildProject.load(packageDirectory);
+    }
+
+    private static ExternalAnalyzer externalAnalyzer(String name, String pluginClassName) {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        ScannerContextIml scannerContext = new ScannerContextIml(new ArrayList<>(), new BitSet(),
+                IssueThreshold.NONE, cancelled, new SyntaxNodeIndexCache(), new IssueTables(),
+                document -> true);
+        return new ExternalAnalyzer(name, pluginClassName, cancelled, scannerContext);
+    }
+}
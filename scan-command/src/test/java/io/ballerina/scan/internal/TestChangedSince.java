@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class TestChangedSince {
+
+    private static final String PANIC_FUNCTION = """
+
+            public function addedPanicFunction(byte v) returns byte {
+                return checkpanic v;
+            }
+            """;
+
+    @TempDir
+    Path directory;
+
+    private Path packageDirectory;
+    private List<Path> documentPaths;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // The tester package is committed to a new repository, the scans then change it on top of the commit
+        packageDirectory = directory.resolve("package");
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        documentPaths = ScanTestUtils.addTesterDocuments(packageDirectory, 3);
+        Assumptions.assumeTrue(git("init", "--quiet"), "git is not available");
+        Assertions.assertTrue(git("add", "."));
+        Assertions.assertTrue(git("-c", "user.name=scan", "-c", "user.email=scan@example.com", "commit", "--quiet",
+                "-m", "Add the tester package"));
+    }
+
+    @Test
+    void test_only_changed_files_are_analyzed() throws IOException {
+        Files.writeString(documentPaths.get(0), PANIC_FUNCTION, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        Path untrackedDocument = packageDirectory.resolve("untracked.bal");
+        Files.writeString(untrackedDocument, PANIC_FUNCTION, StandardCharsets.UTF_8);
+
+        ScanTestUtils.ScanResult scan = ScanTestUtils.scan(packageDirectory, "--changed-since=HEAD");
+        Assertions.assertTrue(scan.output().contains("Analyzing 2 Ballerina file(s) changed since 'HEAD'..."),
+                scan.output());
+        Assertions.assertEquals(Set.of("tester_1.bal", "untracked.bal"), reportedFiles(packageDirectory));
+    }
+
+    @Test
+    void test_changed_files_are_matched_through_symbolic_links() throws IOException {
+        Path linkDirectory = directory.resolve("link");
+        boolean linked;
+        try {
+            Files.createSymbolicLink(linkDirectory, packageDirectory);
+            linked = true;
+        } catch (IOException | UnsupportedOperationException ex) {
+            linked = false;
+        }
+        Assumptions.assumeTrue(linked, "Symbolic links are not supported");
+        Files.writeString(documentPaths.get(2), PANIC_FUNCTION, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // git reports the repository root with the link resolved, while the project is loaded through the link
+        ScanTestUtils.ScanResult scan = ScanTestUtils.scan(linkDirectory, "--changed-since=HEAD");
+        Assertions.assertTrue(scan.output().contains("Analyzing 1 Ballerina file(s) changed since 'HEAD'..."),
+                scan.output());
+        Assertions.assertEquals(Set.of("tester_3.bal"), reportedFiles(linkDirectory));
+    }
+
+    @Test
+    void test_references_are_not_parsed_as_options() {
+        Path outputFile = packageDirectory.resolve("git-output");
+        ScanTestUtils.ScanResult scan = ScanTestUtils.scan(packageDirectory, "--changed-since=--output=" + outputFile);
+        Assertions.assertTrue(scan.output().contains("Error: Unable to retrieve the files changed since"),
+                scan.output());
+        Assertions.assertFalse(Files.exists(outputFile));
+    }
+
+    private static Set<String> reportedFiles(Path packageDirectory) {
+        Set<String> reportedFiles = new TreeSet<>();
+        ScanTestUtils.readIssues(ScanTestUtils.resultsFile(packageDirectory)).forEach(issue -> {
+            reportedFiles.add(Path.of(issue.filePath()).getFileName().toString());
+        });
+        return reportedFiles;
+    }
+
+    private boolean git(String... arguments) throws InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(List.of(arguments));
+        Process process;
+        try {
+            process = new ProcessBuilder(command)
+                    .directory(packageDirectory.toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+        } catch (IOException ex) {
+            return false;
+        }
+        return process.waitFor() == 0;
+    }
+}
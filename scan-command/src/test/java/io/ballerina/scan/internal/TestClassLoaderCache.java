@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+public class TestClassLoaderCache {
+
+    private static final String RESOURCE_NAME = "class-loader-cache-resource.txt";
+
+    @TempDir
+    Path jarDirectory;
+
+    @Test
+    void test_evicted_class_loader_is_closed_once_released() throws IOException {
+        URLClassLoader heldClassLoader = ClassLoaderCache.acquire(createJar("held"));
+        evictClassLoaders();
+
+        // The class loader is still usable by the scan holding it
+        Assertions.assertNotNull(heldClassLoader.getResource(RESOURCE_NAME));
+        ClassLoaderCache.release(heldClassLoader);
+        Assertions.assertNull(heldClassLoader.getResource(RESOURCE_NAME));
+    }
+
+    @Test
+    void test_class_loader_is_shared_until_its_jar_changes() throws IOException {
+        List<String> jarPaths = createJar("shared");
+        URLClassLoader classLoader = ClassLoaderCache.acquire(jarPaths);
+        URLClassLoader sharedClassLoader = ClassLoaderCache.acquire(jarPaths);
+        Assertions.assertSame(classLoader, sharedClassLoader);
+        ClassLoaderCache.release(sharedClassLoader);
+        ClassLoaderCache.release(classLoader);
+
+        // A cached class loader is kept open after it is released
+        Assertions.assertNotNull(classLoader.getResource(RESOURCE_NAME));
+        Path jarPath = Path.of(jarPaths.get(0));
+        Files.setLastModifiedTime(jarPath, FileTime.fromMillis(Files.getLastModifiedTime(jarPath).toMillis() + 1000));
+        URLClassLoader rebuiltClassLoader = ClassLoaderCache.acquire(jarPaths);
+        Assertions.assertNotSame(classLoader, rebuiltClassLoader);
+        ClassLoaderCache.release(rebuiltClassLoader);
+    }
+
+    @Test
+    void test_read_resource_releases_the_class_loader() throws IOException {
+        List<String> jarPaths = createJar("read");
+        Assertions.assertEquals("read", ClassLoaderCache.readResource(jarPaths, RESOURCE_NAME));
+        Assertions.assertNull(ClassLoaderCache.readResource(jarPaths, "missing-resource.txt"));
+
+        // Nothing holds the class loader, so it is closed as soon as it is evicted
+        URLClassLoader classLoader = ClassLoaderCache.acquire(jarPaths);
+        ClassLoaderCache.release(classLoader);
+        evictClassLoaders();
+        Assertions.assertNull(classLoader.getResource(RESOURCE_NAME));
+    }
+
+    // Fills the cache with class loaders which are not held by any scan
+    private void evictClassLoaders() throws IOException {
+        for (int i = 0; i < ClassLoaderCache.MAX_CLASS_LOADERS; i++) {
+            ClassLoaderCache.release(ClassLoaderCache.acquire(createJar("filler-" + i)));
+        }
+    }
+
+    private List<String> createJar(String content) throws IOException {
+        Path jarPath = Files.createTempFile(jarDirectory, content, ".jar");
+        try (OutputStream outputStream = Files.newOutputStream(jarPath);
+             JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+            jarOutputStream.putNextEntry(new JarEntry(RESOURCE_NAME));
+            jarOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+            jarOutputStream.closeEntry();
+        }
+        List<String> jarPaths = new ArrayList<>();
+        jarPaths.add(jarPath.toString());
+        return jarPaths;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.ballerina.scan.internal.ScanToolConstants.MAIN_BAL;
+
+public class TestCompilationCache {
+
+    @TempDir
+    Path packageDirectory;
+
+    @Test
+    void test_semantic_model_of_a_module_is_compiled_once_per_scan() throws IOException {
+        Project project = loadModularProject();
+        CompilationCache compilationCache = new CompilationCache();
+
+        // Every document of a module asks for the semantic model of the module
+        for (Module module : project.currentPackage().modules()) {
+            SemanticModel semanticModel = compilationCache.getSemanticModel(module);
+            for (int i = 0; i < module.documentIds().size() + 2; i++) {
+                Assertions.assertSame(semanticModel, compilationCache.getSemanticModel(module));
+            }
+        }
+        Assertions.assertEquals(2, compilationCache.compilationCount());
+    }
+
+    @Test
+    void test_package_compilation_provides_the_semantic_models_of_all_modules() throws IOException {
+        Project project = loadModularProject();
+        CompilationCache compilationCache = new CompilationCache();
+
+        compilationCache.compilePackage(project.currentPackage());
+        for (Module module : project.currentPackage().modules()) {
+            Assertions.assertSame(compilationCache.getSemanticModel(module), compilationCache.getSemanticModel(module));
+        }
+        Assertions.assertEquals(1, compilationCache.compilationCount());
+    }
+
+    @Test
+    void test_released_semantic_model_is_compiled_again() throws IOException {
+        Project project = loadModularProject();
+        Module module = project.currentPackage().getDefaultModule();
+        CompilationCache compilationCache = new CompilationCache();
+
+        compilationCache.getSemanticModel(module);
+        compilationCache.releaseSemanticModel(module.moduleId());
+        compilationCache.getSemanticModel(module);
+        Assertions.assertEquals(2, compilationCache.compilationCount());
+    }
+
+    @Test
+    void test_syntactic_rules_are_analyzed_without_compiling() throws IOException {
+        loadModularProject();
+        Path resultsFile = ScanTestUtils.resultsFile(packageDirectory);
+
+        // The inbuilt rules only check the syntax trees, none of the analysis modes should compile the package
+        for (String[] arguments : new String[][]{{"--threads=1"}, {"--threads=4"}, {"--low-memory"}}) {
+            ScanTestUtils.ScanResult scan = ScanTestUtils.scan(packageDirectory, arguments);
+            Assertions.assertEquals(0, scan.exitCode(), scan.output());
+            Assertions.assertTrue(scan.output().contains("Compilations performed: 0"), scan.output());
+            Assertions.assertFalse(ScanTestUtils.readIssues(resultsFile).isEmpty());
+        }
+    }
+
+    // The tester package with a submodule holding a copy of the tester document
+    private Project loadModularProject() throws IOException {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        String testerDocument = Files.readString(packageDirectory.resolve(MAIN_BAL), StandardCharsets.UTF_8);
+        Path moduleDirectory = Files.createDirectories(packageDirectory.resolve("modules").resolve("utils"));
+        Files.writeString(moduleDirectory.resolve("utils.bal"), testerDocument, StandardCharsets.UTF_8);
+        return BuildProject.load(packageDirectory);
+    }
+}
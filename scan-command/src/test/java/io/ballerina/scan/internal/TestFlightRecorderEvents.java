@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.ballerina.scan.internal.ScanToolConstants.MAIN_BAL;
+
+public class TestFlightRecorderEvents {
+
+    private static final String SCAN_PHASE_EVENT = "io.ballerina.scan.ScanPhase";
+    private static final String DOCUMENT_ANALYSIS_EVENT = "io.ballerina.scan.DocumentAnalysis";
+
+    @TempDir
+    Path packageDirectory;
+
+    @TempDir
+    Path recordingDirectory;
+
+    @Test
+    void test_events_are_recorded_for_each_phase_and_document() throws IOException {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 2);
+
+        Path recordingFile = recordingDirectory.resolve("scan.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(SCAN_PHASE_EVENT);
+            recording.enable(DOCUMENT_ANALYSIS_EVENT);
+            recording.start();
+            ScanTestUtils.ScanResult scan = ScanTestUtils.scan(packageDirectory);
+            Assertions.assertEquals(0, scan.exitCode(), scan.output());
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        int issueCount = ScanTestUtils.readIssues(ScanTestUtils.resultsFile(packageDirectory)).size();
+
+        Map<String, RecordedEvent> phaseEvents = new HashMap<>();
+        events.stream()
+                .filter(event -> event.getEventType().getName().equals(SCAN_PHASE_EVENT))
+                .forEach(event -> phaseEvents.put(event.getString("phase"), event));
+        for (String phase : List.of("project-load", "scan-configuration", "external-analyzer-engagement",
+                "analysis", "external-issue-reporting", "metrics-collection", "console-output", "results-saving")) {
+            Assertions.assertTrue(phaseEvents.containsKey(phase), phase + " is missing from " + phaseEvents.keySet());
+        }
+        Assertions.assertEquals(issueCount, phaseEvents.get("analysis").getLong("issueCount"));
+        Assertions.assertEquals("bal_scan_tool_tester", phaseEvents.get("analysis").getString("packageName"));
+
+        // The document events account for all the issues of the inbuilt rules
+        Map<String, RecordedEvent> documentEvents = events.stream()
+                .filter(event -> event.getEventType().getName().equals(DOCUMENT_ANALYSIS_EVENT))
+                .collect(Collectors.toMap(event -> event.getString("documentName"), event -> event));
+        Assertions.assertEquals(List.of(MAIN_BAL, "tester_1.bal", "tester_2.bal"),
+                documentEvents.keySet().stream().sorted().toList());
+        Assertions.assertEquals(issueCount, documentEvents.values().stream()
+                .mapToLong(event -> event.getLong("issueCount"))
+                .sum());
+        documentEvents.values().forEach(event -> {
+            Assertions.assertTrue(event.getLong("documentSize") > 0, event.toString());
+            Assertions.assertFalse(event.getDuration().isNegative(), event.toString());
+        });
+    }
+}
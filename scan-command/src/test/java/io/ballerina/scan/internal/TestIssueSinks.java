@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.scan.Issue;
+import io.ballerina.scan.IssueSink;
+import io.ballerina.scan.Rule;
+import io.ballerina.scan.Severity;
+import io.ballerina.scan.Source;
+import io.ballerina.scan.utilities.ScanUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLocation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TestIssueSinks {
+
+    private static final Rule RULE = RuleFactory.createRule(107, "Inbuilt rule", Severity.CODE_SMELL);
+    private static final String PREVIOUS_RESULTS = "[]";
+
+    @TempDir
+    Path reportDirectory;
+
+    @Test
+    void test_console_issues_are_printed_before_the_messages_following_a_flush() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream outputStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+        ConsoleIssueSink consoleSink = ScanUtils.printToConsole(outputStream);
+        consoleSink.accept(issue("main.bal"));
+        consoleSink.flush();
+        outputStream.println("Reporting issues to platform...");
+        consoleSink.accept(issue("utils.bal"));
+        consoleSink.complete();
+
+        String printed = output.toString(StandardCharsets.UTF_8);
+        int message = printed.indexOf("Reporting issues to platform...");
+        Assertions.assertTrue(printed.indexOf("main.bal") < message, printed);
+        Assertions.assertTrue(printed.indexOf("utils.bal") > message, printed);
+        Assertions.assertTrue(printed.stripTrailing().endsWith("]"), printed);
+    }
+
+    @Test
+    void test_previous_results_are_replaced_only_when_the_sink_completes() throws IOException {
+        Path resultsFile = reportDirectory.resolve(ScanToolConstants.RESULTS_JSON_FILE);
+        Files.writeString(resultsFile, PREVIOUS_RESULTS, StandardCharsets.UTF_8);
+
+        IssueSink resultsSink = ScanUtils.saveToDirectory(reportDirectory);
+        resultsSink.accept(issue("main.bal"));
+        Assertions.assertEquals(PREVIOUS_RESULTS, Files.readString(resultsFile, StandardCharsets.UTF_8));
+
+        resultsSink.complete();
+        List<IssueIml> savedIssues = ScanTestUtils.readIssues(resultsFile);
+        Assertions.assertEquals(1, savedIssues.size());
+        Assertions.assertEquals(List.of(resultsFile), reportFiles());
+    }
+
+    @Test
+    void test_aborted_sink_leaves_the_previous_results_in_place() throws IOException {
+        Path resultsFile = reportDirectory.resolve(ScanToolConstants.RESULTS_JSON_FILE);
+        Files.writeString(resultsFile, PREVIOUS_RESULTS, StandardCharsets.UTF_8);
+
+        IssueSink resultsSink = ScanUtils.saveToDirectory(reportDirectory);
+        resultsSink.accept(issue("main.bal"));
+        resultsSink.abort();
+
+        Assertions.assertEquals(PREVIOUS_RESULTS, Files.readString(resultsFile, StandardCharsets.UTF_8));
+        Assertions.assertEquals(List.of(resultsFile), reportFiles());
+    }
+
+    @Test
+    void test_sinks_after_a_failed_completion_are_aborted() throws IOException {
+        Path resultsFile = reportDirectory.resolve(ScanToolConstants.RESULTS_JSON_FILE);
+        Files.writeString(resultsFile, PREVIOUS_RESULTS, StandardCharsets.UTF_8);
+
+        CompositeIssueSink issueSink = new CompositeIssueSink("tester");
+        issueSink.add(new IssueSink() {
+            @Override
+            public void accept(Issue issue) {
+            }
+
+            @Override
+            public void complete() {
+                throw new IllegalStateException("Platform is unreachable");
+            }
+        }, "platform-reporting");
+        issueSink.add(ScanUtils.saveToDirectory(reportDirectory), "results-saving");
+        issueSink.accept(issue("main.bal"));
+
+        Assertions.assertThrows(IllegalStateException.class, issueSink::complete);
+        issueSink.abort();
+        Assertions.assertEquals(PREVIOUS_RESULTS, Files.readString(resultsFile, StandardCharsets.UTF_8));
+        Assertions.assertEquals(List.of(resultsFile), reportFiles());
+    }
+
+    private List<Path> reportFiles() throws IOException {
+        try (Stream<Path> files = Files.list(reportDirectory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private static Issue issue(String documentName) {
+        BLangDiagnosticLocation location = new BLangDiagnosticLocation(documentName, 1, 1, 0, 10, 0, 10);
+        return new IssueIml(location, RULE, Source.BUILT_IN, documentName, "/package/" + documentName);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import com.google.gson.Gson;
+import io.ballerina.scan.Issue;
+import io.ballerina.scan.Rule;
+import io.ballerina.scan.Severity;
+import io.ballerina.scan.Source;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLocation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestIssueStore {
+
+    private static final Rule INBUILT_RULE = RuleFactory.createRule(107, "Inbuilt rule", Severity.CODE_SMELL);
+    private static final Rule EXTERNAL_RULE = RuleFactory.createRule(101, "External rule", Severity.BUG,
+            "example_org", "example_analyzer");
+
+    @TempDir
+    Path packageDirectory;
+
+    @Test
+    void test_issues_are_read_back_as_they_were_added() {
+        List<Issue> addedIssues = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String documentName = "doc" + (i % 7) + ".bal";
+            BLangDiagnosticLocation location = new BLangDiagnosticLocation(documentName, i, i + 2, i % 80,
+                    (i + 5) % 80, i * 40, i % 13 + 1);
+            addedIssues.add(new IssueIml(location, i % 2 == 0 ? INBUILT_RULE : EXTERNAL_RULE,
+                    i % 3 == 0 ? Source.EXTERNAL : Source.BUILT_IN, "mod" + (i % 3) + "/" + documentName,
+                    "/package/modules/mod" + (i % 3) + "/" + documentName));
+        }
+
+        IssueStore issues = new IssueStore();
+        addedIssues.forEach(issues::add);
+        Assertions.assertEquals(addedIssues.size(), issues.size());
+        for (int i = 0; i < addedIssues.size(); i++) {
+            assertSameIssue(addedIssues.get(i), issues.get(i));
+        }
+    }
+
+    @Test
+    void test_issues_of_a_scan_are_read_back_as_they_were_saved() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 3);
+        ScanTestUtils.scan(packageDirectory);
+        List<IssueIml> savedIssues = ScanTestUtils.readIssues(ScanTestUtils.resultsFile(packageDirectory));
+        Assertions.assertFalse(savedIssues.isEmpty());
+
+        IssueStore issues = new IssueStore();
+        savedIssues.forEach(issues::add);
+        Gson gson = new Gson();
+        for (int i = 0; i < savedIssues.size(); i++) {
+            Assertions.assertEquals(gson.toJson(savedIssues.get(i)), gson.toJson(issues.get(i)));
+        }
+    }
+
+    @Test
+    void test_cleared_store_accepts_new_issues() {
+        IssueStore issues = new IssueStore();
+        BLangDiagnosticLocation location = new BLangDiagnosticLocation("main.bal", 1, 1, 0, 10, 5, 10);
+        issues.add(new IssueIml(location, INBUILT_RULE, Source.BUILT_IN, "main.bal", "/package/main.bal"));
+        issues.clear();
+        Assertions.assertTrue(issues.isEmpty());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> issues.get(0));
+
+        IssueIml issue = new IssueIml(location, EXTERNAL_RULE, Source.EXTERNAL, "main.bal", "/package/main.bal");
+        issues.add(issue);
+        Assertions.assertEquals(1, issues.size());
+        assertSameIssue(issue, issues.get(0));
+    }
+
+    @Test
+    void test_stores_of_a_scan_share_its_tables() {
+        IssueTables issueTables = new IssueTables();
+        IssueStore firstIssues = new IssueStore(issueTables);
+        IssueStore secondIssues = new IssueStore(issueTables);
+        String documentName = "main.bal";
+        BLangDiagnosticLocation location = new BLangDiagnosticLocation(documentName, 1, 1, 0, 10, 5, 10);
+        IssueIml firstIssue = new IssueIml(location, INBUILT_RULE, Source.BUILT_IN, "mod/" + documentName,
+                "/package/" + documentName);
+        IssueIml secondIssue = new IssueIml(location, INBUILT_RULE, Source.BUILT_IN, "mod/" + documentName,
+                "/package/" + documentName);
+        firstIssues.add(firstIssue);
+        secondIssues.add(secondIssue);
+
+        // The document of both issues is held once, by the tables of the scan
+        IssueIml firstStoredIssue = (IssueIml) firstIssues.get(0);
+        IssueIml secondStoredIssue = (IssueIml) secondIssues.get(0);
+        assertSameIssue(firstIssue, firstStoredIssue);
+        assertSameIssue(secondIssue, secondStoredIssue);
+        Assertions.assertSame(firstStoredIssue.filePath(), secondStoredIssue.filePath());
+        Assertions.assertSame(firstStoredIssue.rule(), secondStoredIssue.rule());
+    }
+
+    @Test
+    void test_issues_are_replaced_and_removed_like_a_list() {
+        List<Issue> expectedIssues = new ArrayList<>();
+        IssueStore issues = new IssueStore();
+        for (int i = 0; i < 5; i++) {
+            BLangDiagnosticLocation location = new BLangDiagnosticLocation("main.bal", i, i, 0, 10, i * 20, 10);
+            IssueIml issue = new IssueIml(location, INBUILT_RULE, Source.BUILT_IN, "main.bal", "/package/main.bal");
+            expectedIssues.add(issue);
+            issues.add(issue);
+        }
+
+        // Platforms receiving the store may sort and filter it
+        issues.sort((first, second) -> Integer.compare(second.location().lineRange().startLine().line(),
+                first.location().lineRange().startLine().line()));
+        issues.remove(1);
+        issues.removeIf(issue -> issue.location().lineRange().startLine().line() == 0);
+        expectedIssues.sort((first, second) -> Integer.compare(second.location().lineRange().startLine().line(),
+                first.location().lineRange().startLine().line()));
+        expectedIssues.remove(1);
+        expectedIssues.removeIf(issue -> issue.location().lineRange().startLine().line() == 0);
+
+        Assertions.assertEquals(expectedIssues.size(), issues.size());
+        for (int i = 0; i < expectedIssues.size(); i++) {
+            assertSameIssue(expectedIssues.get(i), issues.get(i));
+        }
+    }
+
+    @Test
+    void test_scan_report_contains_the_issues_of_each_file() throws IOException {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 2);
+        ScanTestUtils.scan(packageDirectory, "--scan-report");
+        List<IssueIml> savedIssues = ScanTestUtils.readIssues(ScanTestUtils.resultsFile(packageDirectory));
+        Assertions.assertFalse(savedIssues.isEmpty());
+
+        String report = Files.readString(ScanTestUtils.resultsFile(packageDirectory)
+                .resolveSibling(ScanToolConstants.RESULTS_HTML_FILE));
+        Assertions.assertFalse(report.contains(ScanToolConstants.REPORT_DATA_PLACEHOLDER));
+        for (IssueIml savedIssue : savedIssues) {
+            Assertions.assertTrue(report.contains(new Gson().toJson(savedIssue.filePath())), savedIssue.filePath());
+            Assertions.assertTrue(report.contains("\"ruleID\": \"" + savedIssue.rule().id() + "\""));
+        }
+    }
+
+    private static void assertSameIssue(Issue expected, Issue actual) {
+        Assertions.assertEquals(expected.location().lineRange().fileName(), actual.location().lineRange().fileName());
+        Assertions.assertEquals(expected.location().lineRange().startLine().line(),
+                actual.location().lineRange().startLine().line());
+        Assertions.assertEquals(expected.location().lineRange().startLine().offset(),
+                actual.location().lineRange().startLine().offset());
+        Assertions.assertEquals(expected.location().lineRange().endLine().line(),
+                actual.location().lineRange().endLine().line());
+        Assertions.assertEquals(expected.location().lineRange().endLine().offset(),
+                actual.location().lineRange().endLine().offset());
+        Assertions.assertEquals(expected.location().textRange().startOffset(),
+                actual.location().textRange().startOffset());
+        Assertions.assertEquals(expected.location().textRange().length(), actual.location().textRange().length());
+        Assertions.assertEquals(expected.rule().id(), actual.rule().id());
+        Assertions.assertEquals(expected.rule().numericId(), actual.rule().numericId());
+        Assertions.assertEquals(expected.rule().description(), actual.rule().description());
+        Assertions.assertEquals(expected.rule().severity(), actual.rule().severity());
+        Assertions.assertEquals(expected.source(), actual.source());
+        Assertions.assertEquals(((IssueIml) expected).fileName(), ((IssueIml) actual).fileName());
+        Assertions.assertEquals(((IssueIml) expected).filePath(), ((IssueIml) actual).filePath());
+    }
+}
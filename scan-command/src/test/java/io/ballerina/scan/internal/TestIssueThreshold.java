@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.scan.Reporter;
+import io.ballerina.scan.Rule;
+import io.ballerina.scan.Severity;
+import io.ballerina.tools.diagnostics.Location;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class TestIssueThreshold {
+
+    @TempDir
+    Path packageDirectory;
+
+    @Test
+    void test_zero_max_issues_exits_with_the_threshold_exit_code() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+
+        ScanTestUtils.ScanResult scan = ScanTestUtils.scan(packageDirectory, "--max-issues=0");
+        Assertions.assertEquals(2, scan.exitCode(), scan.output());
+        Assertions.assertEquals(ScanToolConstants.ISSUE_THRESHOLD_EXCEEDED_EXIT_CODE, scan.exitCode());
+        Assertions.assertTrue(scan.output().contains("Error: The issue threshold was exceeded as more than 0 "
+                + "issue(s) were found."), scan.output());
+    }
+
+    @Test
+    void test_scan_within_the_threshold_exits_normally() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.scan(packageDirectory);
+        int issueCount = ScanTestUtils.readIssues(ScanTestUtils.resultsFile(packageDirectory)).size();
+        Assertions.assertTrue(issueCount > 0);
+
+        ScanTestUtils.ScanResult scan = ScanTestUtils.scan(packageDirectory, "--max-issues=" + issueCount);
+        Assertions.assertEquals(0, scan.exitCode(), scan.output());
+        Assertions.assertFalse(scan.output().contains("The issue threshold was exceeded"), scan.output());
+        Assertions.assertEquals(issueCount, ScanTestUtils.readIssues(ScanTestUtils.resultsFile(packageDirectory))
+                .size());
+    }
+
+    @Test
+    void test_severity_limit_exits_with_the_threshold_exit_code() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+
+        // The inbuilt rules report code smells only
+        ScanTestUtils.ScanResult bugLimitScan = ScanTestUtils.scan(packageDirectory, "--max-severity-issues=BUG=0");
+        Assertions.assertEquals(0, bugLimitScan.exitCode(), bugLimitScan.output());
+
+        ScanTestUtils.ScanResult codeSmellLimitScan = ScanTestUtils.scan(packageDirectory,
+                "--max-severity-issues=CODE_SMELL=0");
+        Assertions.assertEquals(ScanToolConstants.ISSUE_THRESHOLD_EXCEEDED_EXIT_CODE, codeSmellLimitScan.exitCode(),
+                codeSmellLimitScan.output());
+        Assertions.assertTrue(codeSmellLimitScan.output().contains("more than 0 CODE_SMELL issue(s) were found"),
+                codeSmellLimitScan.output());
+    }
+
+    @Test
+    void test_negative_limits_are_rejected() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+
+        ScanTestUtils.ScanResult scan = ScanTestUtils.scan(packageDirectory, "--max-issues=-1");
+        Assertions.assertTrue(scan.output().contains("Error: The issue limits should not be negative."),
+                scan.output());
+    }
+
+    @Test
+    void test_external_issues_stop_the_analyzers_as_they_are_reported() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 1);
+        Project project = BuildProject.load(packageDirectory);
+        Module module = project.currentPackage().getDefaultModule();
+        List<Document> documents = new ArrayList<>();
+        for (DocumentId documentId : module.documentIds()) {
+            documents.add(module.document(documentId));
+        }
+        Document analyzedDocument = documents.get(0);
+        Document otherDocument = documents.get(1);
+
+        Rule rule = RuleFactory.createRule(1, "External bug", Severity.BUG, "external", "analyzer");
+        BitSet enabledRules = new BitSet();
+        enabledRules.set(rule.numericId());
+        IssueThreshold issueThreshold = new IssueThreshold(null, Map.of(Severity.BUG, 1));
+        ScannerContextIml scannerContext = new ScannerContextIml(List.of(rule), enabledRules, issueThreshold,
+                new AtomicBoolean(), new SyntaxNodeIndexCache(), new IssueTables(),
+                document -> document.documentId().equals(analyzedDocument.documentId()));
+        Reporter reporter = scannerContext.getReporter();
+        Location location = analyzedDocument.syntaxTree().rootNode().location();
+
+        // The issues of the documents out of the analysis scope or in the other shards are not counted
+        Location otherLocation = otherDocument.syntaxTree().rootNode().location();
+        reporter.reportIssue(otherDocument, otherLocation, rule.numericId());
+        reporter.reportIssue(otherDocument, otherLocation, rule.numericId());
+        Assertions.assertTrue(scannerContext.isRuleEnabled(rule.numericId()));
+
+        // The BUG limit is exceeded while the analyzers still run, which stops the analyzers checking the rules
+        reporter.reportIssue(analyzedDocument, location, rule.numericId());
+        Assertions.assertTrue(scannerContext.isRuleEnabled(rule.numericId()));
+        reporter.reportIssue(analyzedDocument, location, rule.numericId());
+        Assertions.assertFalse(scannerContext.isRuleEnabled(rule.numericId()));
+        Assertions.assertEquals("more than 1 BUG issue(s) were found", issueThreshold.exceededLimit());
+
+        // The issues reported after the threshold is exceeded are dropped
+        reporter.reportIssue(analyzedDocument, location, rule.numericId());
+        Assertions.assertEquals(2, ((ReporterIml) reporter).getIssues().size());
+    }
+
+    @Test
+    void test_parallel_scan_stops_at_the_same_document_as_the_sequential_scan() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 6);
+        Path resultsFile = ScanTestUtils.resultsFile(packageDirectory);
+
+        ScanTestUtils.ScanResult sequentialScan = ScanTestUtils.scan(packageDirectory, "--max-issues=0",
+                "--threads=1");
+        Assertions.assertEquals(ScanToolConstants.ISSUE_THRESHOLD_EXCEEDED_EXIT_CODE, sequentialScan.exitCode(),
+                sequentialScan.output());
+        String sequentialResults = ScanTestUtils.readResults(resultsFile);
+
+        // The partial results end with the document which exceeded the threshold
+        List<IssueIml> issues = ScanTestUtils.readIssues(resultsFile);
+        Assertions.assertFalse(issues.isEmpty());
+        Assertions.assertEquals(1, issues.stream().map(IssueIml::filePath).distinct().count());
+
+        for (int run = 0; run < 3; run++) {
+            ScanTestUtils.ScanResult parallelScan = ScanTestUtils.scan(packageDirectory, "--max-issues=0",
+                    "--threads=4");
+            Assertions.assertEquals(ScanToolConstants.ISSUE_THRESHOLD_EXCEEDED_EXIT_CODE, parallelScan.exitCode(),
+                    parallelScan.output());
+            Assertions.assertEquals(sequentialResults, ScanTestUtils.readResults(resultsFile));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.scan.utilities.ScanTomlFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.ballerina.scan.internal.ScanToolConstants.MAIN_BAL;
+
+public class TestLowMemoryMode {
+
+    @TempDir
+    Path packageDirectory;
+
+    @Test
+    void test_low_memory_scan_matches_regular_scan() throws IOException {
+        createModularPackage();
+        Path resultsFile = ScanTestUtils.resultsFile(packageDirectory);
+
+        ScanTestUtils.ScanResult regularScan = ScanTestUtils.scan(packageDirectory);
+        Assertions.assertEquals(0, regularScan.exitCode(), regularScan.output());
+        List<String> regularIssues = ScanTestUtils.sortedIssues(resultsFile);
+        Assertions.assertFalse(regularIssues.isEmpty());
+
+        // The modules are analyzed in dependency order, so only the issues are compared and not their order
+        ScanTestUtils.ScanResult lowMemoryScan = ScanTestUtils.scan(packageDirectory, "--low-memory");
+        Assertions.assertEquals(0, lowMemoryScan.exitCode(), lowMemoryScan.output());
+        Assertions.assertEquals(regularIssues, ScanTestUtils.sortedIssues(resultsFile));
+    }
+
+    @Test
+    void test_low_memory_scan_reuses_the_scan_cache() throws IOException {
+        createModularPackage();
+        Path resultsFile = ScanTestUtils.resultsFile(packageDirectory);
+
+        ScanTestUtils.scan(packageDirectory, "--low-memory", "--incremental");
+        List<String> firstIssues = ScanTestUtils.sortedIssues(resultsFile);
+        ScanTestUtils.ScanResult secondScan = ScanTestUtils.scan(packageDirectory, "--low-memory", "--incremental");
+        Assertions.assertTrue(secondScan.output().contains("Documents analyzed: 0 "), secondScan.output());
+        Assertions.assertEquals(firstIssues, ScanTestUtils.sortedIssues(resultsFile));
+    }
+
+    @Test
+    void test_low_memory_analysis_releases_the_syntax_tree_of_each_document() throws InterruptedException {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        Project project = BuildProject.load(packageDirectory);
+        Module module = project.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+
+        // The tree analyzed in the low memory mode is no longer reachable once the document is analyzed, while the
+        // project and the document still are
+        List<WeakReference<SyntaxTree>> lowMemoryTrees = analyzedSyntaxTrees(document, true);
+        Assertions.assertFalse(lowMemoryTrees.isEmpty());
+        for (int attempt = 0; attempt < 100 && lowMemoryTrees.get(0).get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assertions.assertNull(lowMemoryTrees.get(0).get());
+
+        // The tree of the regular mode is held by the project for the whole scan
+        List<WeakReference<SyntaxTree>> regularTrees = analyzedSyntaxTrees(document, false);
+        Assertions.assertFalse(regularTrees.isEmpty());
+        Assertions.assertSame(document.syntaxTree(), regularTrees.get(0).get());
+    }
+
+    // The syntax trees the rule checks were given while analyzing the document, held weakly
+    private static List<WeakReference<SyntaxTree>> analyzedSyntaxTrees(Document document, boolean lowMemory) {
+        List<WeakReference<SyntaxTree>> syntaxTrees = new ArrayList<>();
+        RuleCheck treeRecordingCheck = new RuleCheck() {
+            @Override
+            public int numericId() {
+                return 1;
+            }
+
+            @Override
+            public List<SyntaxKind> syntaxKinds() {
+                return List.of(SyntaxKind.FUNCTION_DEFINITION);
+            }
+
+            @Override
+            public boolean requiresSemanticModel() {
+                return false;
+            }
+
+            @Override
+            public void check(Node node, RuleContext ruleContext) {
+                syntaxTrees.add(new WeakReference<>(node.syntaxTree()));
+            }
+        };
+
+        InternalScannerContext scannerContext = new InternalScannerContext(new IssueStore(),
+                InbuiltRules.INBUILT_RULES, new CompilationCache(), new RuleDispatcher(List.of(treeRecordingCheck)),
+                new AnalysisBudget(0, 0), null);
+        ScanTomlFile scanTomlFile = new ScanTomlFile();
+        new ProjectAnalyzer(scanTomlFile, RuleFilter.from(scanTomlFile, Collections.emptyList(),
+                Collections.emptyList()), 1, false, lowMemory).analyzeDocument(document, scannerContext);
+        return syntaxTrees;
+    }
+
+    // The tester package with two submodules, each module holding a copy of the tester document
+    private void createModularPackage() throws IOException {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        String testerDocument = Files.readString(packageDirectory.resolve(MAIN_BAL), StandardCharsets.UTF_8);
+        for (String moduleName : List.of("first", "second")) {
+            Path moduleDirectory = Files.createDirectories(packageDirectory.resolve("modules").resolve(moduleName));
+            Files.writeString(moduleDirectory.resolve(moduleName + ".bal"), testerDocument, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.scan.Issue;
+import io.ballerina.scan.IssueSink;
+import io.ballerina.scan.utilities.ScanTomlFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.ballerina.scan.internal.ScanToolConstants.MAIN_BAL;
+
+public class TestParallelAnalysis {
+
+    @TempDir
+    Path packageDirectory;
+
+    @Test
+    void test_parallel_analysis_reports_issues_in_document_order() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 6);
+        Path resultsFile = ScanTestUtils.resultsFile(packageDirectory);
+
+        ScanTestUtils.ScanResult sequentialScan = ScanTestUtils.scan(packageDirectory, "--threads=1");
+        Assertions.assertEquals(0, sequentialScan.exitCode(), sequentialScan.output());
+        String sequentialResults = ScanTestUtils.readResults(resultsFile);
+        List<IssueIml> sequentialIssues = ScanTestUtils.readIssues(resultsFile);
+        Assertions.assertFalse(sequentialIssues.isEmpty());
+
+        // The documents are scheduled largest first, the issues should still follow the document order
+        for (int threads : new int[]{2, 4, 16}) {
+            ScanTestUtils.ScanResult parallelScan = ScanTestUtils.scan(packageDirectory, "--threads=" + threads);
+            Assertions.assertEquals(0, parallelScan.exitCode(), parallelScan.output());
+            Assertions.assertEquals(sequentialResults, ScanTestUtils.readResults(resultsFile),
+                    "The results of the scan with " + threads + " threads differ from the sequential scan");
+            Assertions.assertTrue(parallelScan.output().contains("Worker idle time: "));
+        }
+    }
+
+    @Test
+    void test_documents_are_scheduled_largest_first() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 4);
+        Project project = BuildProject.load(packageDirectory);
+        Package currentPackage = project.currentPackage();
+        List<DocumentId> documentIds = new ArrayList<>(currentPackage.getDefaultModule().documentIds());
+        List<Integer> documentsToAnalyze = new ArrayList<>();
+        for (int index = 0; index < documentIds.size(); index++) {
+            documentsToAnalyze.add(index);
+        }
+
+        List<String> scheduledDocuments = new ArrayList<>();
+        ProjectAnalyzer.scheduleLargestFirst(currentPackage, documentIds, documentsToAnalyze).forEach(index -> {
+            scheduledDocuments.add(currentPackage.getDefaultModule().document(documentIds.get(index)).name());
+        });
+
+        // The i-th tester document repeats the main document i times
+        Assertions.assertEquals(List.of("tester_4.bal", "tester_3.bal", "tester_2.bal"),
+                scheduledDocuments.subList(0, 3));
+        Assertions.assertEquals(Set.of(MAIN_BAL, "tester_1.bal"), new HashSet<>(scheduledDocuments.subList(3, 5)));
+    }
+
+    @Test
+    void test_threads_without_a_document_idle_for_the_whole_analysis() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 1);
+        ScanTomlFile scanTomlFile = new ScanTomlFile();
+        ProjectAnalyzer projectAnalyzer = new ProjectAnalyzer(scanTomlFile,
+                RuleFilter.from(scanTomlFile, Collections.emptyList(), Collections.emptyList()), 4, false, false);
+        List<Issue> issues = new ArrayList<>();
+        projectAnalyzer.analyzeProject(BuildProject.load(packageDirectory), new IssueSink() {
+            @Override
+            public void accept(Issue issue) {
+                issues.add(issue);
+            }
+
+            @Override
+            public void complete() {
+            }
+        });
+        Assertions.assertFalse(issues.isEmpty());
+
+        // Two documents keep two of the four threads busy, the other two idle for the whole analysis
+        List<Long> idleTimes = projectAnalyzer.workerIdleTimes();
+        Assertions.assertEquals(4, idleTimes.size());
+        Assertions.assertTrue(idleTimes.get(2) > 0, idleTimes.toString());
+        Assertions.assertEquals(idleTimes.get(2), idleTimes.get(3));
+        Assertions.assertTrue(idleTimes.get(0) < idleTimes.get(2), idleTimes.toString());
+        Assertions.assertTrue(idleTimes.get(1) < idleTimes.get(2), idleTimes.toString());
+    }
+
+    @Test
+    void test_invalid_thread_count() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.ScanResult scan = ScanTestUtils.scan(packageDirectory, "--threads=0");
+        Assertions.assertTrue(scan.output().contains("The number of threads should be a positive integer."));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.projects.util.ProjectConstants.REPORT_DIR_NAME;
+import static io.ballerina.scan.internal.ScanToolConstants.RULE_PROFILE_JSON_FILE;
+import static io.ballerina.scan.internal.ScanToolConstants.TARGET_DIR_NAME;
+
+public class TestRuleProfile {
+
+    @TempDir
+    Path packageDirectory;
+
+    @Test
+    void test_profile_is_printed_as_a_table() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.ScanResult scan = ScanTestUtils.scan(packageDirectory, "--profile");
+        Assertions.assertEquals(0, scan.exitCode(), scan.output());
+
+        String output = scan.output();
+        int profileStart = output.indexOf("Rule profile:");
+        Assertions.assertTrue(profileStart >= 0, output);
+        List<String> tableLines = output.substring(profileStart).lines().skip(1).limit(4).toList();
+        Assertions.assertTrue(tableLines.get(0).matches("\\tRuleID\\s+\\| Time \\(ms\\)\\s+\\| Nodes Visited\\s+\\| "
+                + "Documents\\s+\\| Issues\\s+\\| Symbol Hits\\s+\\| Symbol Misses\\s*"), tableLines.get(0));
+        Assertions.assertTrue(tableLines.get(1).matches("\\t-+"), tableLines.get(1));
+        Assertions.assertTrue(tableLines.stream().anyMatch(line -> line.startsWith("\tB107 ")), output);
+        Assertions.assertTrue(tableLines.stream().anyMatch(line -> line.startsWith("\tB108 ")), output);
+    }
+
+    @Test
+    void test_profile_is_saved_with_the_issues_of_each_rule() throws IOException {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 2);
+        ScanTestUtils.ScanResult scan = ScanTestUtils.scan(packageDirectory, "--profile");
+        Assertions.assertEquals(0, scan.exitCode(), scan.output());
+
+        Map<String, Long> issuesPerRule = new HashMap<>();
+        ScanTestUtils.readIssues(ScanTestUtils.resultsFile(packageDirectory)).forEach(issue -> {
+            issuesPerRule.merge(issue.rule().id(), 1L, Long::sum);
+        });
+        Assertions.assertFalse(issuesPerRule.isEmpty());
+
+        Path profileFile = packageDirectory.resolve(TARGET_DIR_NAME).resolve(REPORT_DIR_NAME)
+                .resolve(RULE_PROFILE_JSON_FILE);
+        JsonArray profiles = JsonParser.parseString(Files.readString(profileFile, StandardCharsets.UTF_8))
+                .getAsJsonArray();
+        Map<String, JsonObject> profilesPerRule = new HashMap<>();
+        for (JsonElement profile : profiles) {
+            profilesPerRule.put(profile.getAsJsonObject().get("ruleId").getAsString(), profile.getAsJsonObject());
+        }
+
+        // Each document is analyzed by both inbuilt rules
+        for (String ruleId : List.of("B107", "B108")) {
+            JsonObject profile = profilesPerRule.get(ruleId);
+            Assertions.assertNotNull(profile, profiles.toString());
+            Assertions.assertEquals(3, profile.get("documents").getAsLong(), profile.toString());
+            Assertions.assertTrue(profile.get("visitedNodes").getAsLong() > 0, profile.toString());
+            Assertions.assertEquals(issuesPerRule.getOrDefault(ruleId, 0L), profile.get("issues").getAsLong(),
+                    profile.toString());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.scan.internal;
+
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.scan.Issue;
+import io.ballerina.scan.IssueSink;
+import io.ballerina.scan.Rule;
+import io.ballerina.scan.Severity;
+import io.ballerina.scan.utilities.ScanTomlFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TestRuleSelector {
+
+    private static final Rule INBUILT_CODE_SMELL = RuleFactory.createRule(101, "Code smell", Severity.CODE_SMELL);
+    private static final Rule EXTERNAL_BUG = RuleFactory.createRule(1, "Bug", Severity.BUG, "ballerina", "io");
+    private static final Rule EXTERNAL_VULNERABILITY = RuleFactory.createRule(2, "Vulnerability",
+            Severity.VULNERABILITY, "ballerina", "io");
+    private static final Rule EXTERNAL_CODE_SMELL = RuleFactory.createRule(3, "Code smell", Severity.CODE_SMELL,
+            "ballerina", "io");
+    private static final Rule OTHER_ORG_BUG = RuleFactory.createRule(4, "Bug", Severity.BUG, "example", "lint");
+
+    @TempDir
+    Path packageDirectory;
+
+    @Test
+    void test_exact_rule_ids_and_globs() {
+        RuleSelector exactSelector = new RuleSelector(List.of("ballerina/io:B1"));
+        Assertions.assertTrue(exactSelector.matches(EXTERNAL_BUG));
+        Assertions.assertFalse(exactSelector.matches(EXTERNAL_VULNERABILITY));
+
+        RuleSelector globSelector = new RuleSelector(List.of("ballerina/*:*"));
+        Assertions.assertTrue(globSelector.matches(EXTERNAL_CODE_SMELL));
+        Assertions.assertFalse(globSelector.matches(OTHER_ORG_BUG));
+        Assertions.assertFalse(globSelector.matches(INBUILT_CODE_SMELL));
+
+        RuleSelector inbuiltGlobSelector = new RuleSelector(List.of("B10?"));
+        Assertions.assertTrue(inbuiltGlobSelector.matches(INBUILT_CODE_SMELL));
+        Assertions.assertFalse(inbuiltGlobSelector.matches(EXTERNAL_BUG));
+    }
+
+    @Test
+    void test_severity_comparisons() {
+        RuleSelector atLeastBug = new RuleSelector(List.of("severity>=BUG"));
+        Assertions.assertTrue(atLeastBug.matches(EXTERNAL_BUG));
+        Assertions.assertTrue(atLeastBug.matches(EXTERNAL_VULNERABILITY));
+        Assertions.assertFalse(atLeastBug.matches(EXTERNAL_CODE_SMELL));
+
+        RuleSelector notBug = new RuleSelector(List.of("severity != bug"));
+        Assertions.assertFalse(notBug.matches(OTHER_ORG_BUG));
+        Assertions.assertTrue(notBug.matches(INBUILT_CODE_SMELL));
+    }
+
+    @Test
+    void test_selectors_match_any_and_joined_selectors_match_all() {
+        RuleSelector anySelector = new RuleSelector(List.of("ballerina/*:*", "severity>=BUG"));
+        Assertions.assertTrue(anySelector.matches(EXTERNAL_CODE_SMELL));
+        Assertions.assertTrue(anySelector.matches(OTHER_ORG_BUG));
+        Assertions.assertFalse(anySelector.matches(INBUILT_CODE_SMELL));
+
+        RuleSelector allSelector = new RuleSelector(List.of("ballerina/*:* & severity>=BUG"));
+        Assertions.assertTrue(allSelector.matches(EXTERNAL_BUG));
+        Assertions.assertTrue(allSelector.matches(EXTERNAL_VULNERABILITY));
+        Assertions.assertFalse(allSelector.matches(EXTERNAL_CODE_SMELL));
+        Assertions.assertFalse(allSelector.matches(OTHER_ORG_BUG));
+    }
+
+    @Test
+    void test_invalid_selectors_are_rejected() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new RuleSelector(List.of("severity>=CRITICAL")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RuleSelector(List.of("severity~BUG")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RuleSelector(List.of("B101&")));
+    }
+
+    @Test
+    void test_excluded_rules_override_included_rules() {
+        RuleFilter ruleFilter = new RuleFilter(new RuleSelector(List.of("ballerina/*:*")),
+                new RuleSelector(List.of("severity=VULNERABILITY")));
+        BitSet enabledRules = ruleFilter.enabledRules(List.of(EXTERNAL_BUG, EXTERNAL_VULNERABILITY,
+                EXTERNAL_CODE_SMELL, OTHER_ORG_BUG));
+        Assertions.assertEquals("{1, 3}", enabledRules.toString());
+
+        RuleFilter excludeOnlyFilter = new RuleFilter(new RuleSelector(List.of()), new RuleSelector(List.of("B101")));
+        Assertions.assertFalse(excludeOnlyFilter.isEnabled(INBUILT_CODE_SMELL));
+        Assertions.assertTrue(excludeOnlyFilter.isEnabled(EXTERNAL_CODE_SMELL));
+    }
+
+    @Test
+    void test_excluded_inbuilt_rule_is_never_invoked() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        RuleFilter ruleFilter = new RuleFilter(new RuleSelector(List.of()), new RuleSelector(List.of("B108")));
+        ProjectAnalyzer projectAnalyzer = new ProjectAnalyzer(new ScanTomlFile(), ruleFilter, 1, false, false);
+        projectAnalyzer.enableProfiling();
+        List<Issue> issues = new ArrayList<>();
+        projectAnalyzer.analyzeProject(BuildProject.load(packageDirectory), new IssueSink() {
+            @Override
+            public void accept(Issue issue) {
+                issues.add(issue);
+            }
+
+            @Override
+            public void complete() {
+            }
+        });
+
+        // The profiler records every rule check the nodes were dispatched to
+        Map<String, RuleProfiler.RuleProfile> profiles = new HashMap<>();
+        projectAnalyzer.getRuleProfiler().rankedProfiles().forEach(profile -> profiles.put(profile.ruleId(), profile));
+        Assertions.assertTrue(profiles.get("B107").visitedNodes() > 0);
+        Assertions.assertFalse(profiles.containsKey("B108"), profiles.keySet().toString());
+        Assertions.assertFalse(issues.isEmpty());
+        Assertions.assertTrue(issues.stream().noneMatch(issue -> issue.rule().id().equals("B108")));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static io.ballerina.projects.util.ProjectConstants.REPORT_DIR_NAME;
+import static io.ballerina.scan.internal.ScanToolConstants.RESULTS_JSON_FILE;
+import static io.ballerina.scan.internal.ScanToolConstants.SCAN_CACHE_FILE;
+import static io.ballerina.scan.internal.ScanToolConstants.TARGET_DIR_NAME;
+
+public class TestScanCache {
+
+    private static final String PANIC_FUNCTION = """
+
+            public function addedPanicFunction(byte v) returns byte {
+                return checkpanic v;
+            }
+            """;
+
+    @TempDir
+    Path packageDirectory;
+
+    @Test
+    void test_unchanged_documents_are_reused() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 3);
+        Path resultsFile = ScanTestUtils.resultsFile(packageDirectory);
+
+        ScanTestUtils.ScanResult firstScan = ScanTestUtils.scan(packageDirectory, "--incremental");
+        Assertions.assertTrue(firstScan.output().contains("Documents analyzed: 4 "), firstScan.output());
+        String firstResults = ScanTestUtils.readResults(resultsFile);
+
+        ScanTestUtils.ScanResult secondScan = ScanTestUtils.scan(packageDirectory, "--incremental");
+        Assertions.assertTrue(secondScan.output().contains("Documents analyzed: 0 "), secondScan.output());
+        Assertions.assertEquals(firstResults, ScanTestUtils.readResults(resultsFile));
+    }
+
+    @Test
+    void test_changed_documents_are_analyzed_again() throws IOException {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        List<Path> documentPaths = ScanTestUtils.addTesterDocuments(packageDirectory, 3);
+        Path resultsFile = ScanTestUtils.resultsFile(packageDirectory);
+
+        ScanTestUtils.scan(packageDirectory, "--incremental");
+        int firstIssueCount = ScanTestUtils.readIssues(resultsFile).size();
+
+        Files.writeString(documentPaths.get(1), PANIC_FUNCTION, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        ScanTestUtils.ScanResult secondScan = ScanTestUtils.scan(packageDirectory, "--incremental");
+        Assertions.assertTrue(secondScan.output().contains("Documents analyzed: 1 "), secondScan.output());
+        Assertions.assertEquals(firstIssueCount + 1, ScanTestUtils.readIssues(resultsFile).size());
+        String incrementalResults = ScanTestUtils.readResults(resultsFile);
+
+        // The reused issues should be identical to the issues of a full scan
+        ScanTestUtils.scan(packageDirectory);
+        Assertions.assertEquals(ScanTestUtils.readResults(resultsFile), incrementalResults);
+    }
+
+    @Test
+    void test_changed_rules_invalidate_the_cache() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 3);
+        Path resultsFile = ScanTestUtils.resultsFile(packageDirectory);
+
+        ScanTestUtils.scan(packageDirectory, "--incremental");
+        ScanTestUtils.ScanResult secondScan = ScanTestUtils.scan(packageDirectory, "--incremental",
+                "--exclude-rules=B108");
+        Assertions.assertTrue(secondScan.output().contains("Documents analyzed: 4 "), secondScan.output());
+        Assertions.assertTrue(ScanTestUtils.readIssues(resultsFile).stream()
+                .noneMatch(issue -> issue.rule().id().equals("B108")));
+    }
+
+    @Test
+    void test_cache_is_kept_with_the_results_in_the_given_target_directory() {
+        Path testerDirectory = ScanTestUtils.copyTesterPackage(packageDirectory.resolve("tester"));
+        ScanTestUtils.addTesterDocuments(testerDirectory, 3);
+        Path reportDirectory = packageDirectory.resolve("scan-target").resolve(REPORT_DIR_NAME);
+
+        ScanTestUtils.scan(testerDirectory, "--incremental", "--target-dir=scan-target");
+        Assertions.assertTrue(Files.exists(reportDirectory.resolve(RESULTS_JSON_FILE)));
+        Assertions.assertTrue(Files.exists(reportDirectory.resolve(SCAN_CACHE_FILE)));
+        Assertions.assertFalse(Files.exists(testerDirectory.resolve(TARGET_DIR_NAME).resolve(REPORT_DIR_NAME)
+                .resolve(SCAN_CACHE_FILE)));
+
+        ScanTestUtils.ScanResult secondScan = ScanTestUtils.scan(testerDirectory, "--incremental",
+                "--target-dir=scan-target");
+        Assertions.assertTrue(secondScan.output().contains("Documents analyzed: 0 "), secondScan.output());
+    }
+
+    @Test
+    void test_scan_tool_version_is_generated_from_the_build() {
+        // The cache is invalidated on a version change, so the version must not be a placeholder
+        Assertions.assertTrue(ScanToolConstants.SCAN_TOOL_VERSION.matches("\\d+\\.\\d+\\.\\d+.*"),
+                ScanToolConstants.SCAN_TOOL_VERSION);
+    }
+}
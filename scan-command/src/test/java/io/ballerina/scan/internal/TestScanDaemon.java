@@ -0,0 +1,275 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.scan.internal;
+
+import io.ballerina.projects.DocumentConfig;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.ballerina.scan.internal.ScanToolConstants.DAEMON_FILE;
+
+// Runs a scan daemon on a thread, with the daemon file written to a temporary home directory
+public class TestScanDaemon {
+
+    private static final long DAEMON_START_TIMEOUT_MILLIS = 30000;
+
+    @TempDir
+    Path homeDirectory;
+
+    @TempDir
+    Path packageDirectory;
+
+    private String userHome;
+    private Thread daemonThread;
+
+    @BeforeEach
+    void startDaemon() throws InterruptedException {
+        userHome = System.getProperty("user.home");
+        System.setProperty("user.home", homeDirectory.toString());
+        PrintStream daemonOutputStream = new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8);
+        daemonThread = new Thread(() -> new ScanDaemon(daemonOutputStream).start());
+        daemonThread.start();
+
+        long deadline = System.currentTimeMillis() + DAEMON_START_TIMEOUT_MILLIS;
+        while (!Files.exists(daemonFile()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Assertions.assertTrue(Files.exists(daemonFile()), "The scan daemon did not start");
+    }
+
+    @AfterEach
+    void stopDaemon() throws InterruptedException {
+        try {
+            PrintStream outputStream = new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8);
+            ScanDaemon.stop(outputStream);
+            daemonThread.join(DAEMON_START_TIMEOUT_MILLIS);
+            Assertions.assertFalse(daemonThread.isAlive(), "The scan daemon did not stop");
+            Assertions.assertFalse(Files.exists(daemonFile()));
+        } finally {
+            System.setProperty("user.home", userHome);
+        }
+    }
+
+    @Test
+    void test_daemon_file_is_only_readable_by_the_user() throws IOException {
+        Assumptions.assumeTrue(daemonFile().getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Assertions.assertEquals("rw-------",
+                PosixFilePermissions.toString(Files.getPosixFilePermissions(daemonFile())));
+        try (Stream<Path> files = Files.list(daemonFile().getParent())) {
+            Assertions.assertEquals(List.of(daemonFile()), files.toList());
+        }
+    }
+
+    @Test
+    void test_forwarded_scan_matches_in_process_scan() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 2);
+        Path resultsFile = ScanTestUtils.resultsFile(packageDirectory);
+        ScanTestUtils.scan(packageDirectory);
+        String inProcessResults = ScanTestUtils.readResults(resultsFile);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream outputStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+        int exitCode = ScanDaemon.forward(packageDirectory, List.of(), outputStream);
+        Assertions.assertEquals(0, exitCode, output.toString(StandardCharsets.UTF_8));
+        Assertions.assertTrue(output.toString(StandardCharsets.UTF_8).contains("Running the scan in the scan daemon"));
+        Assertions.assertEquals(inProcessResults, ScanTestUtils.readResults(resultsFile));
+    }
+
+    @Test
+    void test_scan_of_another_build_is_rejected() throws IOException {
+        String[] daemonInfo = Files.readString(daemonFile(), StandardCharsets.UTF_8).trim().split(" ");
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(daemonInfo[0]))) {
+            DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+            output.writeUTF(daemonInfo[1]);
+            output.writeUTF("scan");
+            output.writeUTF("0.0.0 another-build.jar@0");
+            output.writeUTF(packageDirectory.toString());
+            output.writeInt(0);
+            output.flush();
+
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            Assertions.assertEquals(ScanDaemon.REQUEST_REJECTED, input.readInt());
+            Assertions.assertTrue(input.readUTF().contains("--stop-daemon"));
+        }
+    }
+
+    @Test
+    void test_stalled_client_does_not_block_other_scans() throws IOException {
+        String[] daemonInfo = Files.readString(daemonFile(), StandardCharsets.UTF_8).trim().split(" ");
+        Socket stalledClient = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(daemonInfo[0]));
+        try {
+            // The stalled client never sends its request, while the next request is still served
+            ScanTestUtils.copyTesterPackage(packageDirectory);
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            PrintStream outputStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+            Assertions.assertEquals(0, ScanDaemon.forward(packageDirectory, List.of(), outputStream),
+                    output.toString(StandardCharsets.UTF_8));
+        } finally {
+            stalledClient.close();
+        }
+    }
+
+    @Test
+    void test_failed_scan_in_the_daemon_exits_with_a_failure_code() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream outputStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+
+        // The arguments are parsed by the daemon, where an unknown option fails the scan
+        int exitCode = ScanDaemon.forward(packageDirectory, List.of("--unknown-option"), outputStream);
+        Assertions.assertEquals(ScanToolConstants.SCAN_FAILED_EXIT_CODE, exitCode,
+                output.toString(StandardCharsets.UTF_8));
+        Assertions.assertTrue(output.toString(StandardCharsets.UTF_8).contains("Error: The scan failed"),
+                output.toString(StandardCharsets.UTF_8));
+
+        // The daemon keeps serving scans after a failed scan
+        Assertions.assertEquals(0, ScanDaemon.forward(packageDirectory, List.of(), outputStream),
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void test_daemon_lost_before_any_output_runs_the_scan_without_it() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream outputStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+        int exitCode = forwardToCrashingDaemon(false, outputStream);
+        Assertions.assertEquals(ScanDaemon.NO_DAEMON, exitCode, output.toString(StandardCharsets.UTF_8));
+        Assertions.assertTrue(output.toString(StandardCharsets.UTF_8).contains("running the scan without it"),
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void test_daemon_lost_during_the_scan_fails_the_scan() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream outputStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+        int exitCode = forwardToCrashingDaemon(true, outputStream);
+        Assertions.assertEquals(ScanToolConstants.SCAN_FAILED_EXIT_CODE, exitCode,
+                output.toString(StandardCharsets.UTF_8));
+        Assertions.assertTrue(output.toString(StandardCharsets.UTF_8).contains("Partial output"));
+        Assertions.assertTrue(output.toString(StandardCharsets.UTF_8)
+                .contains("Error: Lost the connection to the scan daemon"));
+    }
+
+    @Test
+    void test_unchanged_warm_project_keeps_its_compilation() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanDaemon scanDaemon = new ScanDaemon(new PrintStream(new ByteArrayOutputStream(), true,
+                StandardCharsets.UTF_8));
+        Project project = scanDaemon.loadBuildProject(packageDirectory);
+        Package scannedPackage = project.currentPackage();
+        PackageCompilation compilation = scannedPackage.getCompilation();
+
+        Project warmProject = scanDaemon.loadBuildProject(packageDirectory);
+        Assertions.assertSame(project, warmProject);
+        Assertions.assertSame(scannedPackage, warmProject.currentPackage());
+        Assertions.assertSame(compilation, warmProject.currentPackage().getCompilation());
+    }
+
+    @Test
+    void test_warm_project_discards_the_modifications_of_the_previous_scan() throws IOException {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanDaemon scanDaemon = new ScanDaemon(new PrintStream(new ByteArrayOutputStream(), true,
+                StandardCharsets.UTF_8));
+        Project project = scanDaemon.loadBuildProject(packageDirectory);
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        int documentCount = defaultModule.documentIds().size();
+
+        // The external analyzers are engaged through an in-memory document, while a document is edited on disk
+        DocumentId generatedDocumentId = DocumentId.create("generated.bal", defaultModule.moduleId());
+        defaultModule.modify().addDocument(DocumentConfig.from(generatedDocumentId, "", "generated.bal")).apply();
+        Path mainBal = packageDirectory.resolve(ScanToolConstants.MAIN_BAL);
+        String editedContent = Files.readString(mainBal, StandardCharsets.UTF_8) + "\nfunction edited() {\n}\n";
+        Files.writeString(mainBal, editedContent, StandardCharsets.UTF_8);
+
+        Project warmProject = scanDaemon.loadBuildProject(packageDirectory);
+        Assertions.assertSame(project, warmProject);
+        Module warmModule = warmProject.currentPackage().getDefaultModule();
+        Assertions.assertEquals(documentCount, warmModule.documentIds().size());
+        Assertions.assertTrue(warmModule.documentIds().stream()
+                .anyMatch(documentId -> warmModule.document(documentId).textDocument().toString()
+                        .equals(editedContent)));
+    }
+
+    // Forwards a scan to a daemon which accepts the request and closes the connection, optionally after sending
+    // some output. The daemon file of the running daemon is restored afterwards, so that it can be stopped.
+    private int forwardToCrashingDaemon(boolean sendOutput, PrintStream outputStream) throws Exception {
+        String daemonFileContent = Files.readString(daemonFile(), StandardCharsets.UTF_8);
+        String token = daemonFileContent.trim().split(" ")[1];
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Files.writeString(daemonFile(), serverSocket.getLocalPort() + " " + token, StandardCharsets.UTF_8);
+            Thread crashingDaemon = new Thread(() -> {
+                try (Socket socket = serverSocket.accept()) {
+                    DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                    input.readUTF();
+                    input.readUTF();
+                    String identity = input.readUTF();
+                    input.readUTF();
+                    for (int i = input.readInt(); i > 0; i--) {
+                        input.readUTF();
+                    }
+                    DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+                    output.writeInt(ScanDaemon.REQUEST_ACCEPTED);
+                    output.writeUTF(identity);
+                    if (sendOutput) {
+                        byte[] partialOutput = "Partial output\n".getBytes(StandardCharsets.UTF_8);
+                        output.writeInt(partialOutput.length);
+                        output.write(partialOutput);
+                    }
+                    output.flush();
+                } catch (IOException ex) {
+                    throw new RuntimeException(ex);
+                }
+            });
+            crashingDaemon.start();
+            int exitCode = ScanDaemon.forward(packageDirectory, List.of(), outputStream);
+            crashingDaemon.join();
+            return exitCode;
+        } finally {
+            Files.writeString(daemonFile(), daemonFileContent, StandardCharsets.UTF_8);
+        }
+    }
+
+    private Path daemonFile() {
+        return homeDirectory.resolve(".ballerina").resolve(DAEMON_FILE);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class TestScanMetrics {
+
+    private static final Pattern SAMPLE_LINE = Pattern.compile(
+            "(bal_scan_[a-z_]+)(\\{[a-z]+=\"[^\"]+\"})? (-?\\d+(\\.\\d+)?)");
+
+    @TempDir
+    Path packageDirectory;
+
+    @TempDir
+    Path metricsDirectory;
+
+    @Test
+    void test_metrics_are_written_in_the_prometheus_text_format() throws IOException {
+        int issueCount = scanWithMetrics("metrics.prom");
+        List<String> lines = Files.readAllLines(metricsDirectory.resolve("metrics.prom"), StandardCharsets.UTF_8);
+
+        // Every sample follows the help and type of its metric
+        Set<String> describedMetrics = new HashSet<>();
+        Map<String, String> samples = new HashMap<>();
+        for (String line : lines) {
+            if (line.startsWith("# HELP ")) {
+                describedMetrics.add(line.split(" ")[2]);
+                continue;
+            }
+            if (line.startsWith("# TYPE ")) {
+                Assertions.assertTrue(describedMetrics.contains(line.split(" ")[2]), line);
+                continue;
+            }
+            Matcher matcher = SAMPLE_LINE.matcher(line);
+            Assertions.assertTrue(matcher.matches(), line);
+            Assertions.assertTrue(describedMetrics.contains(matcher.group(1)), line);
+            samples.put(matcher.group(1) + (matcher.group(2) != null ? matcher.group(2) : ""), matcher.group(3));
+        }
+
+        Assertions.assertEquals("3", samples.get("bal_scan_documents_analyzed"));
+        Assertions.assertEquals("0", samples.get("bal_scan_compilations"));
+        Assertions.assertEquals(String.valueOf(issueCount), samples.get("bal_scan_issues{source=\"BUILT_IN\"}"));
+        Assertions.assertEquals("0", samples.get("bal_scan_issues{source=\"EXTERNAL\"}"));
+        Assertions.assertTrue(samples.containsKey("bal_scan_phase_duration_seconds{phase=\"analysis\"}"),
+                samples.keySet().toString());
+        Assertions.assertTrue(Long.parseLong(samples.get("bal_scan_lines_analyzed")) > 0);
+    }
+
+    @Test
+    void test_metrics_are_written_as_json() throws IOException {
+        int issueCount = scanWithMetrics("metrics.json");
+        JsonObject metrics = JsonParser.parseString(Files.readString(metricsDirectory.resolve("metrics.json"),
+                StandardCharsets.UTF_8)).getAsJsonObject();
+
+        Assertions.assertEquals(3, metrics.get("documentsAnalyzed").getAsLong());
+        Assertions.assertEquals(0, metrics.get("compilations").getAsLong());
+        Assertions.assertTrue(metrics.get("linesAnalyzed").getAsLong() > 0);
+        Assertions.assertTrue(metrics.getAsJsonObject("phaseDurationSeconds").has("analysis"), metrics.toString());
+        Assertions.assertEquals(issueCount, metrics.getAsJsonObject("issuesBySource").get("BUILT_IN").getAsLong());
+        long issuesBySeverity = metrics.getAsJsonObject("issuesBySeverity").entrySet().stream()
+                .mapToLong(severityCount -> severityCount.getValue().getAsLong())
+                .sum();
+        Assertions.assertEquals(issueCount, issuesBySeverity);
+    }
+
+    // Returns the number of issues saved by the scan
+    private int scanWithMetrics(String metricsFileName) {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 2);
+        ScanTestUtils.ScanResult scan = ScanTestUtils.scan(packageDirectory,
+                "--metrics-out=" + metricsDirectory.resolve(metricsFileName));
+        Assertions.assertEquals(0, scan.exitCode(), scan.output());
+        int issueCount = ScanTestUtils.readIssues(ScanTestUtils.resultsFile(packageDirectory)).size();
+        Assertions.assertTrue(issueCount > 0);
+        return issueCount;
+    }
+}
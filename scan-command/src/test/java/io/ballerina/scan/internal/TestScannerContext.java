@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.scan.Reporter;
+import io.ballerina.scan.ScannerContext;
+import io.ballerina.scan.SyntaxNodeIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+
+public class TestScannerContext {
+
+    // A context implemented outside the scan tool, which only provides the reporter
+    private static final ScannerContext MINIMAL_CONTEXT = new ScannerContext() {
+        private final Reporter reporter = new ReporterIml(new ArrayList<>(), new BitSet(), IssueThreshold.NONE);
+
+        @Override
+        public Reporter getReporter() {
+            return reporter;
+        }
+    };
+
+    @TempDir
+    Path packageDirectory;
+
+    @Test
+    void test_contexts_without_a_rule_configuration_enable_every_rule() {
+        Assertions.assertTrue(MINIMAL_CONTEXT.isRuleEnabled(1));
+        Assertions.assertTrue(MINIMAL_CONTEXT.isRuleEnabled(107));
+    }
+
+    @Test
+    void test_contexts_without_an_index_cache_index_documents_on_demand() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        Module module = BuildProject.load(packageDirectory).currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+
+        SyntaxNodeIndex syntaxNodeIndex = MINIMAL_CONTEXT.getSyntaxNodeIndex(document);
+        Assertions.assertFalse(syntaxNodeIndex.nodes(SyntaxKind.FUNCTION_DEFINITION).isEmpty());
+        Assertions.assertEquals(new SyntaxNodeIndexIml(document.syntaxTree()).nodes(SyntaxKind.CHECK_EXPRESSION)
+                .size(), syntaxNodeIndex.nodes(SyntaxKind.CHECK_EXPRESSION).size());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.scan.internal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class TestShardedScan {
+
+    @TempDir
+    Path packageDirectory;
+
+    @Test
+    void test_merged_shards_match_unsharded_scan() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 5);
+        Path resultsFile = ScanTestUtils.resultsFile(packageDirectory);
+        ScanTestUtils.scan(packageDirectory);
+        List<String> unshardedIssues = ScanTestUtils.sortedIssues(resultsFile);
+
+        // Every document is analyzed by exactly one shard
+        Path reportDirectory = resultsFile.getParent();
+        List<String> shardResultsFiles = new ArrayList<>();
+        Set<String> shardedIssues = new HashSet<>();
+        int shardedIssueCount = 0;
+        for (int index = 1; index <= 3; index++) {
+            Shard shard = new Shard(index, 3);
+            ScanTestUtils.ScanResult shardScan = ScanTestUtils.scan(packageDirectory, "--shard=" + index + "/3");
+            Assertions.assertEquals(0, shardScan.exitCode(), shardScan.output());
+            Path shardResultsFile = reportDirectory.resolve(shard.resultsFileName());
+            List<String> issues = ScanTestUtils.sortedIssues(shardResultsFile);
+            Assertions.assertFalse(issues.isEmpty());
+            shardedIssues.addAll(issues);
+            shardedIssueCount += issues.size();
+            shardResultsFiles.add(shardResultsFile.toString());
+        }
+        Assertions.assertEquals(shardedIssueCount, shardedIssues.size());
+
+        // The issues of the merged shards are in shard order, they are compared independent of their order
+        List<String> mergeArguments = new ArrayList<>(shardResultsFiles);
+        mergeArguments.add("--merge");
+        ScanTestUtils.ScanResult mergeScan = ScanTestUtils.scan(packageDirectory,
+                mergeArguments.toArray(new String[0]));
+        Assertions.assertEquals(0, mergeScan.exitCode(), mergeScan.output());
+        Assertions.assertEquals(unshardedIssues, ScanTestUtils.sortedIssues(resultsFile));
+    }
+
+    @Test
+    void test_merged_issues_count_towards_the_threshold_once() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        ScanTestUtils.addTesterDocuments(packageDirectory, 3);
+        Path resultsFile = ScanTestUtils.resultsFile(packageDirectory);
+        ScanTestUtils.scan(packageDirectory);
+        int issueCount = ScanTestUtils.readIssues(resultsFile).size();
+
+        Path reportDirectory = resultsFile.getParent();
+        List<String> mergeArguments = new ArrayList<>();
+        for (int index = 1; index <= 2; index++) {
+            ScanTestUtils.scan(packageDirectory, "--shard=" + index + "/2");
+            mergeArguments.add(reportDirectory.resolve(new Shard(index, 2).resultsFileName()).toString());
+        }
+        mergeArguments.add("--merge");
+
+        List<String> withinThreshold = new ArrayList<>(mergeArguments);
+        withinThreshold.add("--max-issues=" + issueCount);
+        Assertions.assertEquals(0, ScanTestUtils.scan(packageDirectory, withinThreshold.toArray(new String[0]))
+                .exitCode());
+
+        List<String> exceedingThreshold = new ArrayList<>(mergeArguments);
+        exceedingThreshold.add("--max-issues=" + (issueCount - 1));
+        Assertions.assertEquals(ScanToolConstants.ISSUE_THRESHOLD_EXCEEDED_EXIT_CODE,
+                ScanTestUtils.scan(packageDirectory, exceedingThreshold.toArray(new String[0])).exitCode());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.tools.diagnostics.Location;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class TestSymbolLookupCache {
+
+    @TempDir
+    Path packageDirectory;
+
+    @Test
+    void test_repeated_lookups_are_hits() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        Project project = BuildProject.load(packageDirectory);
+        Module module = project.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+        SemanticModel semanticModel = module.getCompilation().getSemanticModel();
+        SymbolLookupCache symbolLookupCache = new SymbolLookupCache(semanticModel);
+        Node functionDefinition = new SyntaxNodeIndexIml(document.syntaxTree())
+                .nodes(SyntaxKind.FUNCTION_DEFINITION).get(0);
+        DocumentId documentId = document.documentId();
+
+        List<Boolean> lookups = new ArrayList<>();
+        Optional<Symbol> symbol = symbolLookupCache.symbol(documentId, functionDefinition, lookups::add);
+        Assertions.assertTrue(symbol.isPresent());
+        Assertions.assertEquals(symbol, symbolLookupCache.symbol(documentId, functionDefinition, lookups::add));
+        Assertions.assertEquals(List.of(false, true), lookups);
+
+        // The symbol lookup shared by the references lookup is not recorded again
+        lookups.clear();
+        List<Location> references = symbolLookupCache.references(documentId, functionDefinition, lookups::add);
+        Assertions.assertEquals(semanticModel.references(symbol.get()).size(), references.size());
+        Assertions.assertSame(references,
+                symbolLookupCache.references(documentId, functionDefinition, lookups::add));
+        Assertions.assertEquals(List.of(false, true), lookups);
+    }
+
+    @Test
+    void test_references_lookup_is_recorded_once() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        Project project = BuildProject.load(packageDirectory);
+        Module module = project.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+        SymbolLookupCache symbolLookupCache = new SymbolLookupCache(module.getCompilation().getSemanticModel());
+        Node functionDefinition = new SyntaxNodeIndexIml(document.syntaxTree())
+                .nodes(SyntaxKind.FUNCTION_DEFINITION).get(0);
+
+        List<Boolean> lookups = new ArrayList<>();
+        symbolLookupCache.references(document.documentId(), functionDefinition, lookups::add);
+        Assertions.assertEquals(List.of(false), lookups);
+
+        // The symbol resolved for the references is reused by a later symbol lookup
+        symbolLookupCache.symbol(document.documentId(), functionDefinition, lookups::add);
+        Assertions.assertEquals(List.of(false, true), lookups);
+    }
+}
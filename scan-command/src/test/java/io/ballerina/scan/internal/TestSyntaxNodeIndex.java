@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.scan.internal;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.scan.SyntaxNodeIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class TestSyntaxNodeIndex {
+
+    @TempDir
+    Path packageDirectory;
+
+    @Test
+    void test_nodes_are_indexed_by_kind_in_document_order() {
+        Document document = loadTesterDocument();
+        SyntaxNodeIndexIml syntaxNodeIndex = new SyntaxNodeIndexIml(document.syntaxTree());
+
+        List<Integer> functionDefinitions = startOffsets(syntaxNodeIndex.nodes(SyntaxKind.FUNCTION_DEFINITION));
+        Assertions.assertFalse(functionDefinitions.isEmpty());
+        Assertions.assertEquals(collectStartOffsets(document, SyntaxKind.FUNCTION_DEFINITION), functionDefinitions);
+        for (int i = 1; i < functionDefinitions.size(); i++) {
+            Assertions.assertTrue(functionDefinitions.get(i - 1) < functionDefinitions.get(i));
+        }
+        Assertions.assertTrue(syntaxNodeIndex.nodes(SyntaxKind.XML_TEMPLATE_EXPRESSION).isEmpty());
+    }
+
+    @Test
+    void test_document_is_indexed_once_for_all_analyzers() {
+        Document document = loadTesterDocument();
+        SyntaxNodeIndexCache syntaxNodeIndexCache = new SyntaxNodeIndexCache();
+        ScannerContextIml firstContext = new ScannerContextIml(new ArrayList<>(), new BitSet(),
+                IssueThreshold.NONE, new AtomicBoolean(), syntaxNodeIndexCache, new IssueTables(),
+                analyzedDocument -> true);
+        ScannerContextIml secondContext = new ScannerContextIml(new ArrayList<>(), new BitSet(),
+                IssueThreshold.NONE, new AtomicBoolean(), syntaxNodeIndexCache, new IssueTables(),
+                analyzedDocument -> true);
+
+        SyntaxNodeIndex syntaxNodeIndex = firstContext.getSyntaxNodeIndex(document);
+        Assertions.assertSame(syntaxNodeIndex, secondContext.getSyntaxNodeIndex(document));
+
+        // A modified document is indexed again
+        Document modifiedDocument = document.modify()
+                .withContent(document.textDocument().toString() + "\npublic function addedFunction() {\n}\n")
+                .apply();
+        SyntaxNodeIndex modifiedIndex = secondContext.getSyntaxNodeIndex(modifiedDocument);
+        Assertions.assertNotSame(syntaxNodeIndex, modifiedIndex);
+        Assertions.assertEquals(syntaxNodeIndex.nodes(SyntaxKind.FUNCTION_DEFINITION).size() + 1,
+                modifiedIndex.nodes(SyntaxKind.FUNCTION_DEFINITION).size());
+
+        syntaxNodeIndexCache.clear();
+        Assertions.assertNotSame(modifiedIndex, firstContext.getSyntaxNodeIndex(modifiedDocument));
+    }
+
+    @Test
+    void test_analyzers_running_concurrently_share_one_index() throws Exception {
+        Document document = loadTesterDocument();
+        SyntaxNodeIndexCache syntaxNodeIndexCache = new SyntaxNodeIndexCache();
+        int analyzerCount = 8;
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService analyzers = Executors.newFixedThreadPool(analyzerCount);
+        try {
+            List<Future<SyntaxNodeIndex>> indexes = new ArrayList<>();
+            for (int i = 0; i < analyzerCount; i++) {
+                ScannerContextIml scannerContext = new ScannerContextIml(new ArrayList<>(), new BitSet(),
+                        IssueThreshold.NONE, new AtomicBoolean(), syntaxNodeIndexCache, new IssueTables(),
+                        analyzedDocument -> true);
+                indexes.add(analyzers.submit(() -> {
+                    started.await();
+                    return scannerContext.getSyntaxNodeIndex(document);
+                }));
+            }
+            started.countDown();
+
+            SyntaxNodeIndex syntaxNodeIndex = indexes.get(0).get();
+            for (Future<SyntaxNodeIndex> index : indexes) {
+                Assertions.assertSame(syntaxNodeIndex, index.get());
+            }
+        } finally {
+            analyzers.shutdown();
+        }
+    }
+
+    private Document loadTesterDocument() {
+        ScanTestUtils.copyTesterPackage(packageDirectory);
+        Project project = BuildProject.load(packageDirectory);
+        Module module = project.currentPackage().getDefaultModule();
+        DocumentId documentId = module.documentIds().iterator().next();
+        return module.document(documentId);
+    }
+
+    private static List<Integer> startOffsets(List<Node> nodes) {
+        List<Integer> startOffsets = new ArrayList<>();
+        nodes.forEach(node -> startOffsets.add(node.textRange().startOffset()));
+        return startOffsets;
+    }
+
+    private static List<Integer> collectStartOffsets(Document document, SyntaxKind syntaxKind) {
+        List<Node> nodes = new ArrayList<>();
+        new NodeVisitor() {
+            @Override
+            protected void visitSyntaxNode(Node node) {
+                if (node.kind() == syntaxKind) {
+                    nodes.add(node);
+                }
+                super.visitSyntaxNode(node);
+            }
+        }.visit((ModulePartNode) document.syntaxTree().rootNode());
+        return startOffsets(nodes);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import io.ballerina.scan.fixtures.SyntheticProjectGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// Scans of generated packages, where the expected issues are known from the generated violations
+public class TestSyntheticPackageScan {
+
+    @TempDir
+    Path packageDirectory;
+
+    @Test
+    void test_issues_match_the_generated_violations() throws IOException {
+        SyntheticProjectGenerator generator = new SyntheticProjectGenerator(3, 4, 10, 0.2);
+        Path packageRoot = generator.generate(packageDirectory);
+        Path resultsFile = ScanTestUtils.resultsFile(packageRoot);
+
+        ScanTestUtils.ScanResult scan = ScanTestUtils.scan(packageRoot, "--incremental");
+        Assertions.assertEquals(0, scan.exitCode(), scan.output());
+        Assertions.assertTrue(scan.output().contains("Documents analyzed: " + generator.documentCount() + " "),
+                scan.output());
+
+        List<IssueIml> issues = ScanTestUtils.readIssues(resultsFile);
+        Assertions.assertEquals(generator.violatingFunctionCount(), issues.stream()
+                .filter(issue -> issue.rule().id().equals("B107"))
+                .count());
+        Assertions.assertEquals(generator.violatingFunctionCount(), issues.stream()
+                .filter(issue -> issue.rule().id().equals("B108"))
+                .count());
+        Assertions.assertEquals(2L * generator.violatingFunctionCount(), issues.size());
+        Assertions.assertTrue(issues.stream().allMatch(issue -> issue.filePath().endsWith(".bal")
+                && Files.isRegularFile(Path.of(issue.filePath()))));
+    }
+
+    @Test
+    void test_parallel_scan_of_a_generated_package_matches_a_sequential_scan() throws IOException {
+        Path packageRoot = new SyntheticProjectGenerator(5, 3, 20, 0.1).generate(packageDirectory);
+        Path resultsFile = ScanTestUtils.resultsFile(packageRoot);
+
+        ScanTestUtils.scan(packageRoot, "--threads=1");
+        List<String> sequentialIssues = ScanTestUtils.sortedIssues(resultsFile);
+        ScanTestUtils.ScanResult parallelScan = ScanTestUtils.scan(packageRoot, "--threads=4");
+        Assertions.assertEquals(0, parallelScan.exitCode(), parallelScan.output());
+        Assertions.assertEquals(sequentialIssues, ScanTestUtils.sortedIssues(resultsFile));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.internal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.ballerina.projects.util.ProjectConstants.REPORT_DIR_NAME;
+import static io.ballerina.scan.internal.ScanToolConstants.TARGET_DIR_NAME;
+import static io.ballerina.scan.internal.ScanToolConstants.WORKSPACE_RESULTS_JSON_FILE;
+
+public class TestWorkspaceScan {
+
+    @TempDir
+    Path workspaceDirectory;
+
+    @Test
+    void test_packages_scanned_in_parallel_match_separate_scans() {
+        List<Path> packageDirectories = List.of(workspaceDirectory.resolve("first"),
+                workspaceDirectory.resolve("second"), workspaceDirectory.resolve("nested").resolve("third"));
+        for (int i = 0; i < packageDirectories.size(); i++) {
+            ScanTestUtils.copyTesterPackage(packageDirectories.get(i));
+            ScanTestUtils.addTesterDocuments(packageDirectories.get(i), i + 1);
+        }
+
+        ScanTestUtils.ScanResult workspaceScan = ScanTestUtils.scan(workspaceDirectory, "--workspace",
+                "--threads=3");
+        Assertions.assertEquals(0, workspaceScan.exitCode(), workspaceScan.output());
+        Assertions.assertTrue(workspaceScan.output().contains("Found 3 Ballerina package(s) in the workspace."),
+                workspaceScan.output());
+        Assertions.assertTrue(Files.isRegularFile(workspaceDirectory.resolve(TARGET_DIR_NAME)
+                .resolve(REPORT_DIR_NAME).resolve(WORKSPACE_RESULTS_JSON_FILE)));
+
+        // The packages compiled concurrently in their own environments report the issues of a scan of the package
+        for (Path packageDirectory : packageDirectories) {
+            Path resultsFile = ScanTestUtils.resultsFile(packageDirectory);
+            List<String> workspaceIssues = ScanTestUtils.sortedIssues(resultsFile);
+            Assertions.assertFalse(workspaceIssues.isEmpty());
+            ScanTestUtils.scan(packageDirectory);
+            Assertions.assertEquals(ScanTestUtils.sortedIssues(resultsFile), workspaceIssues);
+        }
+    }
+
+    @Test
+    void test_unsupported_options_fail_the_workspace_scan() {
+        ScanTestUtils.copyTesterPackage(workspaceDirectory.resolve("first"));
+        for (String option : List.of("--platforms=sonarqube", "--target-dir=out", "--max-issues=1", "--shard=1/2",
+                "--metrics-out=metrics.prom")) {
+            ScanTestUtils.ScanResult workspaceScan = ScanTestUtils.scan(workspaceDirectory, "--workspace", option);
+            Assertions.assertEquals(ScanToolConstants.SCAN_FAILED_EXIT_CODE, workspaceScan.exitCode(),
+                    option + ": " + workspaceScan.output());
+            Assertions.assertTrue(workspaceScan.output().contains("Error: "), workspaceScan.output());
+            Assertions.assertFalse(Files.exists(workspaceDirectory.resolve(TARGET_DIR_NAME)), option);
+        }
+    }
+
+    @Test
+    void test_failed_package_is_reported_in_its_own_section() throws IOException {
+        List<Path> packageDirectories = List.of(workspaceDirectory.resolve("first"),
+                workspaceDirectory.resolve("second"), workspaceDirectory.resolve("third"));
+        packageDirectories.forEach(ScanTestUtils::copyTesterPackage);
+
+        // The results of the second package cannot be moved into place over a directory
+        Path blockedResults = Files.createDirectories(ScanTestUtils.resultsFile(packageDirectories.get(1)));
+        Files.writeString(blockedResults.resolve("placeholder"), "", StandardCharsets.UTF_8);
+
+        ScanTestUtils.ScanResult workspaceScan = ScanTestUtils.scan(workspaceDirectory, "--workspace",
+                "--threads=2");
+        String output = workspaceScan.output();
+        Assertions.assertEquals(ScanToolConstants.SCAN_FAILED_EXIT_CODE, workspaceScan.exitCode(), output);
+        Assertions.assertTrue(output.contains("Error: 1 of 3 package(s) could not be analyzed."), output);
+
+        // The failure is printed in the section of the second package, between the sections of the others
+        int failure = output.indexOf("Error: The package could not be analyzed: ");
+        Assertions.assertTrue(output.indexOf("(" + packageDirectories.get(1) + "):") < failure, output);
+        Assertions.assertTrue(output.indexOf("(" + packageDirectories.get(2) + "):") > failure, output);
+        Assertions.assertFalse(ScanTestUtils.readIssues(ScanTestUtils.resultsFile(packageDirectories.get(0)))
+                .isEmpty());
+        Assertions.assertFalse(ScanTestUtils.readIssues(ScanTestUtils.resultsFile(packageDirectories.get(2)))
+                .isEmpty());
+        Assertions.assertTrue(Files.isRegularFile(workspaceDirectory.resolve(TARGET_DIR_NAME)
+                .resolve(REPORT_DIR_NAME).resolve(WORKSPACE_RESULTS_JSON_FILE)));
+    }
+}
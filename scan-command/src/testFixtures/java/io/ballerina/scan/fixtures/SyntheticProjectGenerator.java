@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.scan.fixtures;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Generates Ballerina packages of a chosen size, where a chosen share of the functions violates the inbuilt
+// rules B107 (too many parameters) and B108 (checkpanic usage). Shared by the scan command tests and the benchmarks.
+public class SyntheticProjectGenerator {
+
+    private static final PrintStream outputStream = System.out;
+    private static final String PACKAGE_ORG = "benchmark";
+    private static final String PACKAGE_NAME = "synthetic_package";
+
+    private final int moduleCount;
+    private final int documentsPerModule;
+    private final int functionsPerDocument;
+    private final double issueDensity;
+
+    // The default module gets the documents in addition to the given number of modules, the issue density is
+    // the share of functions violating each rule and is between 0 and 1
+    public SyntheticProjectGenerator(int moduleCount, int documentsPerModule, int functionsPerDocument,
+                                     double issueDensity) {
+        if (moduleCount < 0 || documentsPerModule < 1 || functionsPerDocument < 0) {
+            throw new IllegalArgumentException("The module count should not be negative and each module should "
+                    + "have at least one document");
+        }
+        if (issueDensity < 0 || issueDensity > 1) {
+            throw new IllegalArgumentException("The issue density should be between 0 and 1");
+        }
+        this.moduleCount = moduleCount;
+        this.documentsPerModule = documentsPerModule;
+        this.functionsPerDocument = functionsPerDocument;
+        this.issueDensity = issueDensity;
+    }
+
+    // Writes the package to a new temporary directory
+    public Path generate() throws IOException {
+        return generate(Files.createTempDirectory("bal-scan-synthetic"));
+    }
+
+    public Path generate(Path packageRoot) throws IOException {
+        Files.createDirectories(packageRoot);
+        Files.writeString(packageRoot.resolve("Ballerina.toml"), """
+                [package]
+                org = "%s"
+                name = "%s"
+                version = "0.1.0"
+                """.formatted(PACKAGE_ORG, PACKAGE_NAME));
+
+        writeDocuments(packageRoot);
+        for (int module = 0; module < moduleCount; module++) {
+            Path moduleRoot = packageRoot.resolve("modules").resolve("mod" + module);
+            Files.createDirectories(moduleRoot);
+            writeDocuments(moduleRoot);
+        }
+        return packageRoot;
+    }
+
+    private void writeDocuments(Path moduleRoot) throws IOException {
+        for (int document = 0; document < documentsPerModule; document++) {
+            Files.writeString(moduleRoot.resolve("doc" + document + ".bal"), source(document));
+        }
+    }
+
+    // Function names are unique within a module, as every document of a module shares the same namespace
+    String source(int document) {
+        StringBuilder source = new StringBuilder();
+        for (int function = 0; function < functionsPerDocument; function++) {
+            String functionName = "compute_d" + document + "_f" + function;
+            if (violates(document * functionsPerDocument + function)) {
+                source.append("function ").append(functionName)
+                        .append("(int a, int b, int c, int d, int e, int f, int g, int h) returns int {\n")
+                        .append("    int sum = a + b + c + d + e + f + g + h;\n")
+                        .append("    int parsed = checkpanic int:fromString(\"").append(function).append("\");\n")
+                        .append("    return sum + parsed;\n")
+                        .append("}\n\n");
+            } else {
+                source.append("function ").append(functionName)
+                        .append("(int a, int b, int c) returns int|error {\n")
+                        .append("    int sum = a + b + c;\n")
+                        .append("    int parsed = check int:fromString(\"").append(function).append("\");\n")
+                        .append("    return sum + parsed;\n")
+                        .append("}\n\n");
+            }
+        }
+        return source.toString();
+    }
+
+    // Each violating function is reported once by B107 and once by B108
+    public int violatingFunctionCount() {
+        int violatingFunctions = 0;
+        for (int index = 0; index < documentsPerModule * functionsPerDocument; index++) {
+            if (violates(index)) {
+                violatingFunctions++;
+            }
+        }
+        return violatingFunctions * (moduleCount + 1);
+    }
+
+    public int documentCount() {
+        return (moduleCount + 1) * documentsPerModule;
+    }
+
+    // Spreads the violations evenly, so that any run of functions has the requested density
+    private boolean violates(int index) {
+        return Math.floor((index + 1) * issueDensity) > Math.floor(index * issueDensity);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 5) {
+            outputStream.println("Usage: SyntheticProjectGenerator <output-directory> <module-count> "
+                    + "<documents-per-module> <functions-per-document> <issue-density>");
+            return;
+        }
+
+        SyntheticProjectGenerator generator = new SyntheticProjectGenerator(Integer.parseInt(args[1]),
+                Integer.parseInt(args[2]), Integer.parseInt(args[3]), Double.parseDouble(args[4]));
+        Path packageRoot = generator.generate(Path.of(args[0]).toAbsolutePath());
+        outputStream.println("Generated a package of " + generator.documentCount() + " document(s) at "
+                + packageRoot);
+    }
+}
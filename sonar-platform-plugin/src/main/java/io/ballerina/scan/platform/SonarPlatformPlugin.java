@@ -19,19 +19,20 @@ package io.ballerina.scan.platform;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import io.ballerina.scan.Issue;
+import io.ballerina.scan.IssueSink;
 import io.ballerina.scan.PlatformPluginContext;
 import io.ballerina.scan.StaticCodeAnalysisPlatformPlugin;
 import io.ballerina.scan.internal.IssueIml;
 import org.apache.commons.lang3.SystemUtils;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -82,44 +83,70 @@ public class SonarPlatformPlugin implements StaticCodeAnalysisPlatformPlugin {
 
     @Override
     public void onScan(List<Issue> issues) {
-        saveIssues(ISSUES_FILE_PATH, issues);
+        IssueSink issueSink = issueSink();
+        issues.forEach(issueSink::accept);
+        issueSink.complete();
+    }
+
+    // The issues are written to the results file as they are reported, sonar-scanner is run once the file is complete
+    @Override
+    public IssueSink issueSink() {
+        return new SonarIssueSink(ISSUES_FILE_PATH);
+    }
+
+    private void report() {
+        if (platformPluginContext.initiatedByPlatform()) {
+            return;
+        }
+
+        processBuilderArguments.add("-DanalyzedResultsPath=" + Path.of(ISSUES_FILE_PATH).toAbsolutePath());
+
+        String sonarProjectPropertiesPath = platformPluginContext.platformArgs()
+                .getOrDefault("sonarProjectPropertiesPath", null);
+        if (sonarProjectPropertiesPath != null) {
+            processBuilderArguments.add("-Dproject.settings=" + sonarProjectPropertiesPath);
+        }
+
+        // Add all arguments to the process
+        processBuilder.command(processBuilderArguments);
+
+        // To redirect output of the scanning process to the initiated console
+        processBuilder.inheritIO();
 
-        if (!platformPluginContext.initiatedByPlatform()) {
-            processBuilderArguments.add("-DanalyzedResultsPath=" + Path.of(ISSUES_FILE_PATH).toAbsolutePath());
+        // Trigger the reporting process
+        try {
+            Process process = processBuilder.start();
+            int exitCode = process.waitFor();
 
-            String sonarProjectPropertiesPath = platformPluginContext.platformArgs()
-                    .getOrDefault("sonarProjectPropertiesPath", null);
-            if (sonarProjectPropertiesPath != null) {
-                processBuilderArguments.add("-Dproject.settings=" + sonarProjectPropertiesPath);
+            if (exitCode == 0) {
+                outputStream.println("Reporting successful!");
+            } else {
+                outputStream.println("Reporting failed!");
             }
+        } catch (IOException | InterruptedException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
 
-            // Add all arguments to the process
-            processBuilder.command(processBuilderArguments);
+    // Converts the issues to the format sonar-ballerina plugin expects and writes them one by one
+    private class SonarIssueSink implements IssueSink {
 
-            // To redirect output of the scanning process to the initiated console
-            processBuilder.inheritIO();
+        private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        private final Writer writer;
+        private final JsonWriter jsonWriter;
 
-            // Trigger the reporting process
+        SonarIssueSink(String fileName) {
             try {
-                Process process = processBuilder.start();
-                int exitCode = process.waitFor();
-
-                if (exitCode == 0) {
-                    outputStream.println("Reporting successful!");
-                } else {
-                    outputStream.println("Reporting failed!");
-                }
-            } catch (IOException | InterruptedException ex) {
+                writer = Files.newBufferedWriter(Path.of(fileName), StandardCharsets.UTF_8);
+                jsonWriter = gson.newJsonWriter(writer);
+                jsonWriter.beginArray();
+            } catch (IOException ex) {
                 throw new RuntimeException(ex);
             }
         }
-    }
-
-    private void saveIssues(String fileName, List<Issue> issues) {
-        // Convert the issues to the format sonar-ballerina plugin expects
-        JsonArray issuesAsJson = new JsonArray();
 
-        issues.forEach(issue -> {
+        @Override
+        public void accept(Issue issue) {
             IssueIml reportedIssue = (IssueIml) issue;
             JsonObject issueObject = new JsonObject();
             issueObject.addProperty("startLine", reportedIssue.location().lineRange().startLine().line());
@@ -143,19 +170,19 @@ public class SonarPlatformPlugin implements StaticCodeAnalysisPlatformPlugin {
             issueObject.addProperty("source", reportedIssue.source().toString());
             issueObject.addProperty("fileName", reportedIssue.fileName());
             issueObject.addProperty("filePath", reportedIssue.filePath());
-            issuesAsJson.add(issueObject);
-        });
-
-        // Convert formatted array to a string
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        String jsonOutput = gson.toJson(issuesAsJson);
-
-        // Save analysis results to file
-        File destination = new File(fileName);
-        try (FileWriter writer = new FileWriter(destination, StandardCharsets.UTF_8)) {
-            writer.write(jsonOutput);
-        } catch (IOException ex) {
-            throw new RuntimeException(ex);
+            gson.toJson(issueObject, jsonWriter);
+        }
+
+        @Override
+        public void complete() {
+            // Save analysis results to file
+            try (writer) {
+                jsonWriter.endArray();
+                jsonWriter.flush();
+            } catch (IOException ex) {
+                throw new RuntimeException(ex);
+            }
+            report();
         }
     }
 }